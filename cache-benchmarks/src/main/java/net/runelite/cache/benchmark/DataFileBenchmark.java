@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.fs.jagex.DataFile;
+import net.runelite.cache.fs.jagex.DataFileWriteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading archives from main_file_cache.dat2, through the file channel and through a memory mapping
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataFileBenchmark
+{
+	private static final int ARCHIVES = 256;
+
+	@Param({"false", "true"})
+	public boolean mapped;
+
+	@Param({"512", "65536"})
+	public int size;
+
+	private File file;
+	private DataFile dataFile;
+	private final int[] sectors = new int[ARCHIVES];
+	private final int[] sizes = new int[ARCHIVES];
+	private int next;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		file = Files.createTempFile("main_file_cache", ".dat2").toFile();
+
+		SyntheticData data = new SyntheticData(42L);
+		try (DataFile writer = new DataFile(file))
+		{
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				DataFileWriteResult result = writer.write(0, i, data.randomBytes(size));
+				sectors[i] = result.sector;
+				sizes[i] = result.compressedLength;
+			}
+		}
+
+		dataFile = new DataFile(file, mapped);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		dataFile.close();
+		file.delete();
+	}
+
+	@Benchmark
+	public byte[] read() throws IOException
+	{
+		int archive = next;
+		next = (next + 1) % ARCHIVES;
+		return dataFile.read(0, archive, sectors[archive], sizes[archive]);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decoding item, npc, and object definitions. Each invocation decodes a batch of
+ * varied definitions, and the score is per definition.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionLoaderBenchmark
+{
+	private static final int DEFINITIONS = 1000;
+
+	private final ItemLoader itemLoader = new ItemLoader();
+	private final NpcLoader npcLoader = new NpcLoader();
+	private final ObjectLoader objectLoader = new ObjectLoader();
+
+	private final byte[][] items = new byte[DEFINITIONS][];
+	private final byte[][] npcs = new byte[DEFINITIONS][];
+	private final byte[][] objects = new byte[DEFINITIONS][];
+
+	@Setup
+	public void setup()
+	{
+		SyntheticData data = new SyntheticData(42L);
+		for (int i = 0; i < DEFINITIONS; ++i)
+		{
+			items[i] = data.item();
+			npcs[i] = data.npc();
+			objects[i] = data.object();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DEFINITIONS)
+	public void loadItems(Blackhole blackhole)
+	{
+		for (int i = 0; i < DEFINITIONS; ++i)
+		{
+			blackhole.consume(itemLoader.load(i, items[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DEFINITIONS)
+	public void loadNpcs(Blackhole blackhole)
+	{
+		for (int i = 0; i < DEFINITIONS; ++i)
+		{
+			blackhole.consume(npcLoader.load(i, npcs[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DEFINITIONS)
+	public void loadObjects(Blackhole blackhole)
+	{
+		for (int i = 0; i < DEFINITIONS; ++i)
+		{
+			blackhole.consume(objectLoader.load(i, objects[i]));
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.index.IndexData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding the reference table of an index
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexDataBenchmark
+{
+	/**
+	 * archives in the index, and files per archive. The configs index has few archives with
+	 * many files, the models index has many archives with one file each
+	 */
+	@Param({"20:2000", "50000:1"})
+	public String shape;
+
+	private byte[] data;
+
+	@Setup
+	public void setup()
+	{
+		String[] parts = shape.split(":");
+		int archives = Integer.parseInt(parts[0]);
+		int files = Integer.parseInt(parts[1]);
+
+		Index index = new Index(0);
+		index.setProtocol(7);
+		index.setNamed(true);
+		for (int i = 0; i < archives; ++i)
+		{
+			Archive archive = index.addArchive(i);
+			archive.setNameHash(i * 31);
+			archive.setCrc(i);
+			archive.setRevision(1);
+
+			FileData[] fileData = new FileData[files];
+			for (int j = 0; j < files; ++j)
+			{
+				fileData[j] = new FileData();
+				fileData[j].setId(j);
+				fileData[j].setNameHash(j * 17);
+			}
+			archive.setFileData(fileData);
+		}
+
+		data = index.toIndexData().writeIndexData();
+	}
+
+	@Benchmark
+	public IndexData load()
+	{
+		IndexData indexData = new IndexData();
+		indexData.load(data);
+		return indexData;
+	}
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.util.Random;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.region.Region;
+
+/**
+ * Generates synthetic encoded cache data, so the benchmarks do not depend on a
+ * real cache. The data is shaped like typical cache content, and is seeded so
+ * every run decodes the same bytes.
+ */
+class SyntheticData
+{
+	private final Random random;
+
+	SyntheticData(long seed)
+	{
+		random = new Random(seed);
+	}
+
+	byte[] randomBytes(int size)
+	{
+		byte[] b = new byte[size];
+		random.nextBytes(b);
+		return b;
+	}
+
+	/**
+	 * Bytes with some redundancy, so compressed sizes are realistic
+	 */
+	byte[] compressibleBytes(int size)
+	{
+		byte[] b = new byte[size];
+		for (int i = 0; i < size; ++i)
+		{
+			b[i] = (byte) (random.nextInt(4) == 0 ? random.nextInt() : i & 0x1F);
+		}
+		return b;
+	}
+
+	int[] xteaKey()
+	{
+		return new int[]{random.nextInt(), random.nextInt(), random.nextInt(), random.nextInt()};
+	}
+
+	byte[] item()
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.writeShort(random.nextInt(40000));
+		out.writeByte(2);
+		out.writeString("Item " + random.nextInt(30000));
+		out.writeByte(4);
+		out.writeShort(random.nextInt(2000));
+		out.writeByte(5);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(6);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(12);
+		out.writeInt(random.nextInt(100000));
+		out.writeByte(35);
+		out.writeString("Wield");
+		out.writeByte(36);
+		out.writeString("Drop");
+		out.writeByte(23);
+		out.writeShort(random.nextInt(40000));
+		out.writeByte(random.nextInt(8));
+		out.writeByte(25);
+		out.writeShort(random.nextInt(40000));
+		out.writeByte(random.nextInt(8));
+		writeRecolors(out, 40);
+		writeParams(out);
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	byte[] npc()
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		int models = 1 + random.nextInt(6);
+		out.writeByte(models);
+		for (int i = 0; i < models; ++i)
+		{
+			out.writeShort(random.nextInt(40000));
+		}
+		out.writeByte(2);
+		out.writeString("Npc " + random.nextInt(10000));
+		out.writeByte(12);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(13);
+		out.writeShort(random.nextInt(10000));
+		out.writeByte(14);
+		out.writeShort(random.nextInt(10000));
+		out.writeByte(30);
+		out.writeString("Talk-to");
+		out.writeByte(31);
+		out.writeString("Attack");
+		writeRecolors(out, 40);
+		out.writeByte(95);
+		out.writeShort(random.nextInt(1000));
+		writeParams(out);
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	byte[] object()
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		int models = 1 + random.nextInt(3);
+		out.writeByte(models);
+		for (int i = 0; i < models; ++i)
+		{
+			out.writeShort(random.nextInt(40000));
+			out.writeByte(10);
+		}
+		out.writeByte(2);
+		out.writeString("Object " + random.nextInt(50000));
+		out.writeByte(14);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(15);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(30);
+		out.writeString("Open");
+		writeRecolors(out, 40);
+		writeParams(out);
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	private void writeRecolors(OutputStream out, int opcode)
+	{
+		int count = random.nextInt(4);
+		if (count == 0)
+		{
+			return;
+		}
+
+		out.writeByte(opcode);
+		out.writeByte(count);
+		for (int i = 0; i < count; ++i)
+		{
+			out.writeShort(random.nextInt(0x8000));
+			out.writeShort(random.nextInt(0x8000));
+		}
+	}
+
+	private void writeParams(OutputStream out)
+	{
+		int count = random.nextInt(4);
+		if (count == 0)
+		{
+			return;
+		}
+
+		out.writeByte(249);
+		out.writeByte(count);
+		for (int i = 0; i < count; ++i)
+		{
+			boolean string = random.nextBoolean();
+			out.writeByte(string ? 1 : 0);
+			out.write24BitInt(random.nextInt(2000));
+			if (string)
+			{
+				out.writeString("param");
+			}
+			else
+			{
+				out.writeInt(random.nextInt());
+			}
+		}
+	}
+
+	/**
+	 * A model in the old format, a grid mesh of size x size vertices
+	 */
+	byte[] model(int size)
+	{
+		int vertexCount = size * size;
+		int faceCount = (size - 1) * (size - 1) * 2;
+
+		OutputStream vertexFlags = new OutputStream();
+		OutputStream vertexX = new OutputStream();
+		OutputStream vertexY = new OutputStream();
+		OutputStream vertexZ = new OutputStream();
+		int lastX = 0;
+		int lastY = 0;
+		int lastZ = 0;
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			int x = (i % size) * 16;
+			int y = -random.nextInt(64);
+			int z = (i / size) * 16;
+			vertexFlags.writeByte(7);
+			writeSignedShortSmart(vertexX, x - lastX);
+			writeSignedShortSmart(vertexY, y - lastY);
+			writeSignedShortSmart(vertexZ, z - lastZ);
+			lastX = x;
+			lastY = y;
+			lastZ = z;
+		}
+
+		OutputStream faceTypes = new OutputStream();
+		OutputStream faceIndices = new OutputStream();
+		OutputStream faceColors = new OutputStream();
+		int last = 0;
+		for (int row = 0; row < size - 1; ++row)
+		{
+			for (int column = 0; column < size - 1; ++column)
+			{
+				int v = row * size + column;
+				int[][] faces = {
+					{v, v + 1, v + size},
+					{v + 1, v + size + 1, v + size}
+				};
+				for (int[] face : faces)
+				{
+					// each index is encoded relative to the previous
+					faceTypes.writeByte(1);
+					writeSignedShortSmart(faceIndices, face[0] - last);
+					writeSignedShortSmart(faceIndices, face[1] - face[0]);
+					writeSignedShortSmart(faceIndices, face[2] - face[1]);
+					last = face[2];
+					faceColors.writeShort(random.nextInt(0x10000));
+				}
+			}
+		}
+
+		byte[] faceIndexData = faceIndices.flip();
+		byte[] xData = vertexX.flip();
+		byte[] yData = vertexY.flip();
+		byte[] zData = vertexZ.flip();
+
+		OutputStream out = new OutputStream();
+		out.writeBytes(vertexFlags.flip());
+		out.writeBytes(faceTypes.flip());
+		out.writeBytes(faceIndexData);
+		out.writeBytes(faceColors.flip());
+		out.writeBytes(xData);
+		out.writeBytes(yData);
+		out.writeBytes(zData);
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // texture count
+		out.writeByte(0); // textured
+		out.writeByte(0); // priority
+		out.writeByte(0); // transparencies
+		out.writeByte(0); // transparency groups
+		out.writeByte(0); // vertex groups
+		out.writeShort(xData.length);
+		out.writeShort(yData.length);
+		out.writeShort(zData.length);
+		out.writeShort(faceIndexData.length);
+		return out.flip();
+	}
+
+	/**
+	 * Terrain for a region, with underlays and overlays on most tiles
+	 */
+	byte[] map()
+	{
+		OutputStream out = new OutputStream();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					if (z > 0 && random.nextInt(4) != 0)
+					{
+						// empty tile
+						out.writeShort(0);
+						continue;
+					}
+
+					if (random.nextInt(3) == 0)
+					{
+						out.writeShort(2 + random.nextInt(48));
+						out.writeShort(random.nextInt(200));
+					}
+					out.writeShort(82 + random.nextInt(150));
+					out.writeShort(1);
+					out.writeByte(random.nextInt(256));
+				}
+			}
+		}
+		return out.flip();
+	}
+
+	/**
+	 * Object locations for a region
+	 */
+	byte[] locations(int count)
+	{
+		OutputStream out = new OutputStream();
+		int id = -1;
+		int remaining = count;
+		while (remaining > 0)
+		{
+			int idOffset = 1 + random.nextInt(200);
+			out.writeShortSmart(idOffset);
+			id += idOffset;
+
+			int positions = Math.min(remaining, 1 + random.nextInt(4));
+			remaining -= positions;
+
+			int position = 0;
+			for (int i = 0; i < positions; ++i)
+			{
+				int next = position + 1 + random.nextInt(256);
+				out.writeShortSmart(next - position + 1);
+				out.writeByte(random.nextInt(23) << 2 | random.nextInt(4));
+				position = next;
+			}
+			out.writeShortSmart(0);
+		}
+		out.writeShortSmart(0);
+		return out.flip();
+	}
+
+	/**
+	 * The signed smart read by {@link net.runelite.cache.io.InputStream#readShortSmart()}
+	 */
+	private static void writeSignedShortSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xC000);
+		}
+	}
+}
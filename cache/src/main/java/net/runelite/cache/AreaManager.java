@@ -26,9 +26,6 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.AreaDefinition;
 import net.runelite.cache.definitions.loaders.AreaLoader;
 import net.runelite.cache.fs.Archive;
@@ -37,11 +34,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 
 public class AreaManager
 {
 	private final Store store;
-	private final Map<Integer, AreaDefinition> areas = new HashMap<>();
+	private final DefinitionMap<AreaDefinition> areas = new DefinitionMap<>();
 
 	public AreaManager(Store store)
 	{
@@ -67,7 +65,7 @@ public class AreaManager
 
 	public Collection<AreaDefinition> getAreas()
 	{
-		return Collections.unmodifiableCollection(areas.values());
+		return areas.values();
 	}
 
 	public AreaDefinition getArea(int areaId)
@@ -26,9 +26,6 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.DBRowDefinition;
 import net.runelite.cache.definitions.loaders.DBRowLoader;
 import net.runelite.cache.fs.Archive;
@@ -37,11 +34,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 
 public class DBRowManager
 {
 	private final Store store;
-	private final Map<Integer, DBRowDefinition> rows = new HashMap<>();
+	private final DefinitionMap<DBRowDefinition> rows = new DefinitionMap<>();
 
 	public DBRowManager(Store store)
 	{
@@ -74,7 +72,7 @@ public class DBRowManager
 
 	public Collection<DBRowDefinition> getRows()
 	{
-		return Collections.unmodifiableCollection(rows.values());
+		return rows.values();
 	}
 
 	public DBRowDefinition get(int rowId)
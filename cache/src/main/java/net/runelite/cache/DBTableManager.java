@@ -26,9 +26,6 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.DBTableDefinition;
 import net.runelite.cache.definitions.loaders.DBTableLoader;
 import net.runelite.cache.fs.Archive;
@@ -37,11 +34,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 
 public class DBTableManager
 {
 	private final Store store;
-	private final Map<Integer, DBTableDefinition> tables = new HashMap<>();
+	private final DefinitionMap<DBTableDefinition> tables = new DefinitionMap<>();
 
 	public DBTableManager(Store store)
 	{
@@ -74,7 +72,7 @@ public class DBTableManager
 
 	public Collection<DBTableDefinition> getTables()
 	{
-		return Collections.unmodifiableCollection(tables.values());
+		return tables.values();
 	}
 
 	public DBTableDefinition get(int tableId)
@@ -26,11 +26,21 @@ package net.runelite.cache;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.util.Set;
+import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.region.RegionManifest;
 import net.runelite.cache.util.KeyProvider;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,6 +59,84 @@ public class HeightMapDumper
 		this.store = store;
 	}
 
+	public static void main(String[] args) throws IOException
+	{
+		Options options = new Options();
+		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("manifest").hasArg().desc("region manifest file, used to only redraw regions which changed since the last run").build());
+
+		CommandLineParser parser = new DefaultParser();
+		CommandLine cmd;
+		try
+		{
+			cmd = parser.parse(options, args);
+		}
+		catch (ParseException ex)
+		{
+			System.err.println("Error parsing command line options: " + ex.getMessage());
+			System.exit(-1);
+			return;
+		}
+
+		File base = new File(cmd.getOptionValue("cachedir"));
+		File outDir = new File(cmd.getOptionValue("outputdir"));
+		outDir.mkdirs();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			// heights are only in the map archives, so the locations and their keys aren't needed
+			HeightMapDumper dumper = new HeightMapDumper(store);
+			dumper.load(region -> null);
+
+			File manifestFile = cmd.hasOption("manifest") ? new File(cmd.getOptionValue("manifest")) : null;
+			RegionManifest manifest = RegionManifest.create(store.getIndex(IndexType.MAPS));
+			Set<Integer> redraw = null;
+			if (manifestFile != null && manifestFile.exists())
+			{
+				RegionManifest previous = RegionManifest.load(manifestFile);
+				if (manifest.hasSameBounds(previous))
+				{
+					redraw = manifest.getChangedRegions(previous);
+					logger.info("{} regions to redraw", redraw.size());
+				}
+				else
+				{
+					logger.info("Map bounds have changed, redrawing all regions");
+				}
+			}
+
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				File imageFile = new File(outDir, "heightmap-" + z + ".png");
+
+				BufferedImage image = redraw != null && imageFile.exists() ? ImageIO.read(imageFile) : null;
+				if (image != null && dumper.isMapSized(image))
+				{
+					dumper.redrawHeightMap(image, z, redraw);
+				}
+				else
+				{
+					if (image != null)
+					{
+						logger.info("{} does not match the map size, redrawing all regions", imageFile);
+					}
+					image = dumper.drawHeightMap(z);
+				}
+
+				ImageIO.write(image, "png", imageFile);
+				logger.info("Wrote image {}", imageFile);
+			}
+
+			if (manifestFile != null)
+			{
+				manifest.save(manifestFile);
+			}
+		}
+	}
+
 	public void load(KeyProvider keyProvider) throws IOException
 	{
 		regionLoader = new RegionLoader(store, keyProvider);
@@ -77,6 +165,59 @@ public class HeightMapDumper
 		return image;
 	}
 
+	/**
+	 * Check if an image is the size of the height map drawn by {@link #drawHeightMap(int)}
+	 *
+	 * @param image
+	 * @return
+	 */
+	public boolean isMapSized(BufferedImage image)
+	{
+		int dimX = regionLoader.getHighestX().getBaseX() + Region.X - regionLoader.getLowestX().getBaseX();
+		int dimY = regionLoader.getHighestY().getBaseY() + Region.Y - regionLoader.getLowestY().getBaseY();
+		return image.getWidth() == dimX * MAP_SCALE && image.getHeight() == dimY * MAP_SCALE;
+	}
+
+	/**
+	 * Redraw the given regions of a height map previously drawn by {@link #drawHeightMap(int)}.
+	 * Heights do not depend on neighboring regions, so only changed regions need to be redrawn.
+	 * Regions which no longer exist are cleared.
+	 *
+	 * @param image the previously drawn height map
+	 * @param z plane
+	 * @param regionIds ids of the regions to redraw
+	 */
+	public void redrawHeightMap(BufferedImage image, int z, Set<Integer> regionIds)
+	{
+		for (int regionId : regionIds)
+		{
+			int rx = regionId >> 8;
+			int ry = regionId & 0xFF;
+			if (rx < regionLoader.getLowestX().getRegionX() || rx > regionLoader.getHighestX().getRegionX()
+				|| ry < regionLoader.getLowestY().getRegionY() || ry > regionLoader.getHighestY().getRegionY())
+			{
+				continue;
+			}
+
+			Region region = regionLoader.findRegionForRegionCoordinates(rx, ry);
+			if (region != null)
+			{
+				drawRegion(image, z, region);
+				continue;
+			}
+
+			int drawBaseX = rx * Region.X - regionLoader.getLowestX().getBaseX();
+			int drawBaseY = regionLoader.getHighestY().getBaseY() - ry * Region.Y;
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					drawMapSquare(image, drawBaseX + x, drawBaseY + y, 0);
+				}
+			}
+		}
+	}
+
 	private void draw(BufferedImage image, int z)
 	{
 		int max = Integer.MIN_VALUE;
@@ -84,42 +225,59 @@ public class HeightMapDumper
 
 		for (Region region : regionLoader.getRegions())
 		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
+			int[] range = drawRegion(image, z, region);
+			max = Math.max(max, range[1]);
+			min = Math.min(min, range[0]);
+		}
+		System.out.println("max " + max);
+		System.out.println("min " + min);
+	}
 
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
+	/**
+	 * Draw the heights of a region
+	 *
+	 * @return the minimum and maximum height of the region
+	 */
+	private int[] drawRegion(BufferedImage image, int z, Region region)
+	{
+		int max = Integer.MIN_VALUE;
+		int min = Integer.MAX_VALUE;
 
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
+		int baseX = region.getBaseX();
+		int baseY = region.getBaseY();
 
-			for (int x = 0; x < Region.X; ++x)
-			{
-				int drawX = drawBaseX + x;
+		// to pixel X
+		int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
 
-				for (int y = 0; y < Region.Y; ++y)
-				{
-					int drawY = drawBaseY + (Region.Y - 1 - y);
+		// to pixel Y. top most y is 0, but the top most
+		// region has the greatest y, so invert
+		int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
 
-					int height = region.getTileHeight(z, x, y);
-					if (height > max)
-					{
-						max = height;
-					}
-					if (height < min)
-					{
-						min = height;
-					}
+		for (int x = 0; x < Region.X; ++x)
+		{
+			int drawX = drawBaseX + x;
 
-					int rgb = toColor(height);
+			for (int y = 0; y < Region.Y; ++y)
+			{
+				int drawY = drawBaseY + (Region.Y - 1 - y);
 
-					drawMapSquare(image, drawX, drawY, rgb);
+				int height = region.getTileHeight(z, x, y);
+				if (height > max)
+				{
+					max = height;
 				}
+				if (height < min)
+				{
+					min = height;
+				}
+
+				int rgb = toColor(height);
+
+				drawMapSquare(image, drawX, drawY, rgb);
 			}
 		}
-		System.out.println("max " + max);
-		System.out.println("min " + min);
+
+		return new int[]{min, max};
 	}
 
 	private int toColor(int height)
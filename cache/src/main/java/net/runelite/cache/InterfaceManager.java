@@ -24,13 +24,14 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.concurrent.Executor;
 import net.runelite.cache.definitions.InterfaceDefinition;
 import net.runelite.cache.definitions.exporters.InterfaceExporter;
 import net.runelite.cache.definitions.loaders.InterfaceLoader;
-import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
@@ -50,6 +51,17 @@ public class InterfaceManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * Load the interfaces, decompressing and decoding the interface archives on the given executor
+	 *
+	 * @param executor
+	 * @throws IOException
+	 */
+	public void load(Executor executor) throws IOException
 	{
 		InterfaceLoader loader = new InterfaceLoader();
 
@@ -59,18 +71,12 @@ public class InterfaceManager
 		int max = index.getArchives().stream().mapToInt(a -> a.getArchiveId()).max().getAsInt();
 		interfaces = new InterfaceDefinition[max + 1][];
 
-		for (Archive archive : index.getArchives())
+		storage.loadArchives(index.getArchives(), executor, (archive, archiveData) ->
 		{
 			int archiveId = archive.getArchiveId();
-			byte[] archiveData = storage.loadArchive(archive);
 			ArchiveFiles files = archive.getFiles(archiveData);
 
-			InterfaceDefinition[] ifaces = interfaces[archiveId];
-			if (ifaces == null)
-			{
-				ifaces = interfaces[archiveId] = new InterfaceDefinition[archive.getFileData().length];
-			}
-
+			InterfaceDefinition[] ifaces = new InterfaceDefinition[archive.getFileData().length];
 			for (FSFile file : files.getFiles())
 			{
 				int fileId = file.getFileId();
@@ -80,7 +86,8 @@ public class InterfaceManager
 				InterfaceDefinition iface = loader.load(widgetId, file.getContents());
 				ifaces[fileId] = iface;
 			}
-		}
+			return ifaces;
+		}, (archive, ifaces) -> interfaces[archive.getArchiveId()] = ifaces);
 	}
 
 	public int getNumInterfaceGroups()
@@ -27,9 +27,6 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
@@ -40,12 +37,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final DefinitionMap<ItemDefinition> items = new DefinitionMap<>();
 
 	public ItemManager(Store store)
 	{
@@ -65,7 +63,7 @@ public class ItemManager implements ItemProvider
 
 		for (FSFile f : files.getFiles())
 		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
+			ItemDefinition def = loader.load(f.getFileId(), f.getContentsBuffer());
 			items.put(f.getFileId(), def);
 		}
 	}
@@ -96,7 +94,7 @@ public class ItemManager implements ItemProvider
 
 	public Collection<ItemDefinition> getItems()
 	{
-		return Collections.unmodifiableCollection(items.values());
+		return items.values();
 	}
 
 	public ItemDefinition getItem(int itemId)
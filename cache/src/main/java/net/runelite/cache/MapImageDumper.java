@@ -24,6 +24,7 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -32,9 +33,16 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -52,18 +60,23 @@ import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.loaders.UnderlayLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.CachingStorage;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.region.RegionManifest;
 import net.runelite.cache.util.BigBufferedImage;
+import net.runelite.cache.util.DefinitionMap;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.TilePyramidWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -78,6 +91,7 @@ public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final long ARCHIVE_CACHE_SIZE = 256 * 1024 * 1024; // bytes of decompressed archives to keep in memory
 
 	private static byte[][][] TILE_SHAPE_2D;
 
@@ -86,8 +100,8 @@ public class MapImageDumper
 
 	private final Store store;
 
-	private final Map<Integer, UnderlayDefinition> underlays = new HashMap<>();
-	private final Map<Integer, OverlayDefinition> overlays = new HashMap<>();
+	private final DefinitionMap<UnderlayDefinition> underlays = new DefinitionMap<>();
+	private final DefinitionMap<OverlayDefinition> overlays = new DefinitionMap<>();
 	private SpriteDefinition[] mapDecorations;
 
 	private final RegionLoader regionLoader;
@@ -160,6 +174,9 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().desc("number of threads to render tiles with").build());
+		options.addOption(Option.builder().longOpt("tiles").desc("write a pyramid of map tiles instead of full images").build());
+		options.addOption(Option.builder().longOpt("manifest").hasArg().desc("region manifest file, used to only redraw regions which changed since the last run").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -188,25 +205,126 @@ public class MapImageDumper
 		File outDir = new File(outputDirectory);
 		outDir.mkdirs();
 
-		try (Store store = new Store(base))
+		int threads = Integer.parseInt(cmd.getOptionValue("threads", "1"));
+		ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+
+		// archives which are loaded more than once, such as regions loaded by more than one dumper, are only decompressed once
+		try (Store store = new Store(new CachingStorage(new DiskStorage(base), ARCHIVE_CACHE_SIZE)))
 		{
 			store.load();
 
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
 			dumper.load();
 
+			File manifestFile = cmd.hasOption("manifest") ? new File(cmd.getOptionValue("manifest")) : null;
+			RegionManifest manifest = RegionManifest.create(store.getIndex(IndexType.MAPS), dumper.getRenderOptions());
+			Set<Integer> redraw = null;
+			if (manifestFile != null && manifestFile.exists())
+			{
+				RegionManifest previous = RegionManifest.load(manifestFile);
+				if (!manifest.hasSameBounds(previous))
+				{
+					log.info("Map bounds have changed, redrawing all regions");
+				}
+				else if (!manifest.hasSameOptions(previous))
+				{
+					log.info("Render options have changed, redrawing all regions");
+				}
+				else
+				{
+					redraw = RegionManifest.withNeighbors(manifest.getChangedRegions(previous));
+					log.info("{} regions to redraw", redraw.size());
+				}
+			}
+
+			Executor renderExecutor = executor != null ? executor : MoreExecutors.directExecutor();
 			for (int i = 0; i < Region.Z; ++i)
 			{
-				BufferedImage image = dumper.drawMap(i);
+				if (cmd.hasOption("tiles"))
+				{
+					File tileDir = new File(outDir, "tiles-" + i);
+					if (redraw != null && tileDir.exists())
+					{
+						dumper.redrawMapTiles(i, tileDir, redraw, renderExecutor);
+					}
+					else
+					{
+						dumper.drawMapTiles(i, tileDir, renderExecutor);
+					}
+					log.info("Wrote tiles {}", tileDir);
+					continue;
+				}
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
 
+				BufferedImage image = redraw != null && imageFile.exists() ? ImageIO.read(imageFile) : null;
+				if (image != null && dumper.isMapSized(image))
+				{
+					dumper.redrawMap(image, i, redraw, renderExecutor);
+				}
+				else
+				{
+					if (image != null)
+					{
+						log.info("{} does not match the map size, redrawing all regions", imageFile);
+					}
+					image = executor != null ? dumper.drawMap(i, executor) : dumper.drawMap(i);
+				}
+
 				ImageIO.write(image, "png", imageFile);
 				log.info("Wrote image {}", imageFile);
 			}
+
+			if (manifestFile != null)
+			{
+				manifest.save(manifestFile);
+			}
+		}
+		finally
+		{
+			if (executor != null)
+			{
+				executor.shutdown();
+			}
 		}
 	}
 
+	/**
+	 * Get the options which affect how the map is rendered, so maps rendered with different options
+	 * are not redrawn in place
+	 *
+	 * @return
+	 */
+	public Map<String, String> getRenderOptions()
+	{
+		Map<String, String> options = new TreeMap<>();
+		options.put("scale", String.valueOf(MAP_SCALE));
+		options.put("labelRegions", String.valueOf(labelRegions));
+		options.put("outlineRegions", String.valueOf(outlineRegions));
+		options.put("renderMap", String.valueOf(renderMap));
+		options.put("renderObjects", String.valueOf(renderObjects));
+		options.put("renderIcons", String.valueOf(renderIcons));
+		options.put("renderWalls", String.valueOf(renderWalls));
+		options.put("renderOverlays", String.valueOf(renderOverlays));
+		options.put("renderLabels", String.valueOf(renderLabels));
+		options.put("transparency", String.valueOf(transparency));
+		return options;
+	}
+
+	/**
+	 * Check if an image is the size of the map drawn by {@link #drawMap(int)}
+	 *
+	 * @param image
+	 * @return
+	 */
+	public boolean isMapSized(BufferedImage image)
+	{
+		int regionsX = regionLoader.getHighestX().getRegionX() - regionLoader.getLowestX().getRegionX() + 1;
+		int regionsY = regionLoader.getHighestY().getRegionY() - regionLoader.getLowestY().getRegionY() + 1;
+		return image.getWidth() == regionsX * Region.X * MAP_SCALE
+			&& image.getHeight() == regionsY * Region.Y * MAP_SCALE;
+	}
+
 	protected double random()
 	{
 		// the client would use a random value here, but we prefer determinism
@@ -234,6 +352,318 @@ public class MapImageDumper
 	}
 
 	public BufferedImage drawMap(int z)
+	{
+		BufferedImage image = createMapImage();
+
+		drawMap(image, z);
+		drawObjects(image, z);
+		drawMapIcons(image, z);
+		drawMapLabels(image, z);
+
+		return image;
+	}
+
+	/**
+	 * Draw the map for a plane, rendering each region as an independent tile on the given executor.
+	 * Each tile draws its own map squares and the objects and icons of its neighboring regions which
+	 * overlap it, so the result is identical to {@link #drawMap(int)}.
+	 *
+	 * @param z plane
+	 * @param executor executor to render tiles on
+	 * @return
+	 */
+	public BufferedImage drawMap(int z, Executor executor)
+	{
+		BufferedImage image = createMapImage();
+
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		Map<Region, Integer> drawOrder = getDrawOrder();
+		int pixelsX = Region.X * MAP_SCALE;
+		int pixelsY = Region.Y * MAP_SCALE;
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int rx = regionLoader.getLowestX().getRegionX(); rx <= regionLoader.getHighestX().getRegionX(); ++rx)
+		{
+			for (int ry = regionLoader.getLowestY().getRegionY(); ry <= regionLoader.getHighestY().getRegionY(); ++ry)
+			{
+				int tileX = rx;
+				int tileY = ry;
+				futures.add(CompletableFuture.runAsync(() ->
+				{
+					BufferedImage tile = drawRegionTile(tileX, tileY, drawOrder, z);
+					if (tile == null)
+					{
+						return;
+					}
+
+					int drawBaseX = tileX * Region.X - regionLoader.getLowestX().getBaseX();
+					int drawBaseY = regionLoader.getHighestY().getBaseY() - tileY * Region.Y;
+					int[] rgb = tile.getRGB(0, 0, pixelsX, pixelsY, null, 0, pixelsX);
+					synchronized (image)
+					{
+						image.setRGB(drawBaseX * MAP_SCALE, drawBaseY * MAP_SCALE, pixelsX, pixelsY, rgb, 0, pixelsX);
+					}
+				}, executor));
+			}
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		drawMapLabels(image, z);
+
+		return image;
+	}
+
+	/**
+	 * Draw the map for a plane as a pyramid of zoom levels of PNG tiles, one tile per region at the
+	 * most detailed zoom level. Tiles are rendered on the given executor a row at a time and written as
+	 * soon as they are complete, so memory use is bounded by the width of the map rather than its area.
+	 * <p>
+	 * Map labels are not drawn, since they span many tiles.
+	 *
+	 * @param z plane
+	 * @param outDir directory to write the tiles to
+	 * @param executor executor to render and encode tiles on
+	 * @throws IOException
+	 * @see TilePyramidWriter
+	 */
+	public void drawMapTiles(int z, File outDir, Executor executor) throws IOException
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		Map<Region, Integer> drawOrder = getDrawOrder();
+
+		int minRegionX = regionLoader.getLowestX().getRegionX();
+		int maxRegionX = regionLoader.getHighestX().getRegionX();
+		int minRegionY = regionLoader.getLowestY().getRegionY();
+		int maxRegionY = regionLoader.getHighestY().getRegionY();
+
+		int columns = maxRegionX - minRegionX + 1;
+		int rows = maxRegionY - minRegionY + 1;
+		int zoomLevels = TilePyramidWriter.zoomLevelsFor(columns, rows);
+
+		log.info("Writing {}x{} map tiles for plane {} with {} zoom levels", columns, rows, z, zoomLevels);
+
+		TilePyramidWriter writer = new TilePyramidWriter(outDir, Region.X * MAP_SCALE,
+			transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB, zoomLevels, executor);
+
+		// the top row of tiles is the region row with the greatest y. Render one row ahead
+		// of the row being written to keep the executor busy.
+		List<CompletableFuture<BufferedImage>> next = submitTileRow(maxRegionY, minRegionX, maxRegionX, drawOrder, z, executor);
+		for (int row = 0; row < rows; ++row)
+		{
+			List<CompletableFuture<BufferedImage>> current = next;
+			next = row + 1 < rows ? submitTileRow(maxRegionY - row - 1, minRegionX, maxRegionX, drawOrder, z, executor) : null;
+
+			for (int column = 0; column < columns; ++column)
+			{
+				BufferedImage tile = current.get(column).join();
+				if (tile != null)
+				{
+					writer.writeTile(column, row, tile);
+				}
+			}
+		}
+
+		writer.finish();
+	}
+
+	/**
+	 * Redraw the given regions of a map image previously drawn by {@link #drawMap(int)} or
+	 * {@link #drawMap(int, Executor)}. Regions overlap their neighbors, so the region ids should
+	 * include the neighbors of any changed region, see {@link RegionManifest#withNeighbors(Set)}.
+	 *
+	 * @param image the previously drawn map image
+	 * @param z plane
+	 * @param regionIds ids of the regions to redraw
+	 * @param executor executor to render tiles on
+	 * @throws IllegalArgumentException if the image size does not match the map bounds
+	 */
+	public void redrawMap(BufferedImage image, int z, Set<Integer> regionIds, Executor executor)
+	{
+		int pixelsX = Region.X * MAP_SCALE;
+		int pixelsY = Region.Y * MAP_SCALE;
+
+		int minRegionX = regionLoader.getLowestX().getRegionX();
+		int maxRegionX = regionLoader.getHighestX().getRegionX();
+		int minRegionY = regionLoader.getLowestY().getRegionY();
+		int maxRegionY = regionLoader.getHighestY().getRegionY();
+
+		if (!isMapSized(image))
+		{
+			throw new IllegalArgumentException("image size does not match the map bounds");
+		}
+
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		Map<Region, Integer> drawOrder = getDrawOrder();
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int regionId : regionIds)
+		{
+			int rx = regionId >> 8;
+			int ry = regionId & 0xFF;
+			if (rx < minRegionX || rx > maxRegionX || ry < minRegionY || ry > maxRegionY)
+			{
+				continue;
+			}
+
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				BufferedImage tile = drawRegionTile(rx, ry, drawOrder, z);
+				int[] rgb = tile != null ? tile.getRGB(0, 0, pixelsX, pixelsY, null, 0, pixelsX) : new int[pixelsX * pixelsY];
+				synchronized (image)
+				{
+					image.setRGB((rx - minRegionX) * pixelsX, (maxRegionY - ry) * pixelsY, pixelsX, pixelsY, rgb, 0, pixelsX);
+				}
+			}, executor));
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		// the redrawn regions may have covered labels. Labels are opaque, so redrawing all of them
+		// leaves the rest of the image unchanged.
+		drawMapLabels(image, z);
+	}
+
+	/**
+	 * Redraw the given regions of a tile pyramid previously written by {@link #drawMapTiles(int, File, Executor)},
+	 * and rebuild the zoomed out tiles above them. The map bounds must not have changed since the pyramid was
+	 * written, see {@link RegionManifest#hasSameBounds(RegionManifest)}.
+	 *
+	 * @param z plane
+	 * @param outDir directory the tiles were written to
+	 * @param regionIds ids of the regions to redraw, including the neighbors of changed regions
+	 * @param executor executor to render and encode tiles on
+	 * @throws IOException
+	 */
+	public void redrawMapTiles(int z, File outDir, Set<Integer> regionIds, Executor executor) throws IOException
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		Map<Region, Integer> drawOrder = getDrawOrder();
+
+		int minRegionX = regionLoader.getLowestX().getRegionX();
+		int maxRegionX = regionLoader.getHighestX().getRegionX();
+		int minRegionY = regionLoader.getLowestY().getRegionY();
+		int maxRegionY = regionLoader.getHighestY().getRegionY();
+
+		int zoomLevels = TilePyramidWriter.zoomLevelsFor(maxRegionX - minRegionX + 1, maxRegionY - minRegionY + 1);
+
+		TilePyramidWriter writer = new TilePyramidWriter(outDir, Region.X * MAP_SCALE,
+			transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB, zoomLevels, executor);
+
+		Map<Integer, CompletableFuture<BufferedImage>> tiles = new TreeMap<>();
+		for (int regionId : regionIds)
+		{
+			int rx = regionId >> 8;
+			int ry = regionId & 0xFF;
+			if (rx >= minRegionX && rx <= maxRegionX && ry >= minRegionY && ry <= maxRegionY)
+			{
+				tiles.put(regionId, CompletableFuture.supplyAsync(() -> drawRegionTile(rx, ry, drawOrder, z), executor));
+			}
+		}
+
+		log.info("Redrawing {} map tiles for plane {}", tiles.size(), z);
+
+		for (Map.Entry<Integer, CompletableFuture<BufferedImage>> entry : tiles.entrySet())
+		{
+			int rx = entry.getKey() >> 8;
+			int ry = entry.getKey() & 0xFF;
+			writer.replaceTile(rx - minRegionX, maxRegionY - ry, entry.getValue().join());
+		}
+
+		writer.finish();
+	}
+
+	private List<CompletableFuture<BufferedImage>> submitTileRow(int ry, int minRegionX, int maxRegionX, Map<Region, Integer> drawOrder, int z, Executor executor)
+	{
+		List<CompletableFuture<BufferedImage>> row = new ArrayList<>();
+		for (int rx = minRegionX; rx <= maxRegionX; ++rx)
+		{
+			int tileX = rx;
+			row.add(CompletableFuture.supplyAsync(() -> drawRegionTile(tileX, ry, drawOrder, z), executor));
+		}
+		return row;
+	}
+
+	/**
+	 * Get the order in which a full render draws regions. Objects and icons from
+	 * neighboring regions overlap, so tiled renders must draw them in the same order.
+	 */
+	private Map<Region, Integer> getDrawOrder()
+	{
+		Map<Region, Integer> drawOrder = new HashMap<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			drawOrder.put(region, drawOrder.size());
+		}
+		return drawOrder;
+	}
+
+	/**
+	 * Draw the tile for a region cell, which is the region's own map squares and
+	 * the objects and icons of itself and its neighbors which overlap it.
+	 *
+	 * @return the tile, or null if there are no regions in or around the cell
+	 */
+	private BufferedImage drawRegionTile(int rx, int ry, Map<Region, Integer> drawOrder, int z)
+	{
+		List<Region> neighbors = new ArrayList<>(9);
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
+				if (neighbor != null)
+				{
+					neighbors.add(neighbor);
+				}
+			}
+		}
+
+		if (neighbors.isEmpty())
+		{
+			return null;
+		}
+
+		neighbors.sort(Comparator.comparing(drawOrder::get));
+
+		BufferedImage tile = new BufferedImage(Region.X * MAP_SCALE, Region.Y * MAP_SCALE, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		Region region = regionLoader.findRegionForRegionCoordinates(rx, ry);
+		if (region != null)
+		{
+			drawMap(tile, 0, 0, z, region);
+		}
+
+		for (Region neighbor : neighbors)
+		{
+			drawObjects(tile, Region.X * (neighbor.getRegionX() - rx), Region.Y * (ry - neighbor.getRegionY()), neighbor, z);
+		}
+
+		for (Region neighbor : neighbors)
+		{
+			drawMapIcons(tile, Region.X * (neighbor.getRegionX() - rx), Region.Y * (ry - neighbor.getRegionY()), neighbor, z);
+		}
+
+		return tile;
+	}
+
+	private BufferedImage createMapImage()
 	{
 		int minX = regionLoader.getLowestX().getBaseX();
 		int minY = regionLoader.getLowestY().getBaseY();
@@ -261,11 +691,6 @@ public class MapImageDumper
 			image = new BufferedImage(pixelsX, pixelsY, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
 		}
 
-		drawMap(image, z);
-		drawObjects(image, z);
-		drawMapIcons(image, z);
-		drawMapLabels(image, z);
-
 		return image;
 	}
 
@@ -1782,8 +2207,7 @@ public class MapImageDumper
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.UNDERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = archive.getFilesFromContents(storage.loadArchiveContents(archive));
 
 		for (FSFile file : files.getFiles())
 		{
@@ -1805,8 +2229,7 @@ public class MapImageDumper
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = archive.getFilesFromContents(storage.loadArchiveContents(archive));
 
 		for (FSFile file : files.getFiles())
 		{
@@ -1827,7 +2250,7 @@ public class MapImageDumper
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		Archive a = index.findArchiveByName("mapscene");
-		byte[] contents = a.decompress(storage.loadArchive(a));
+		byte[] contents = storage.loadArchiveContents(a);
 
 		SpriteLoader loader = new SpriteLoader();
 		mapDecorations = loader.load(a.getArchiveId(), contents);
@@ -1842,7 +2265,11 @@ public class MapImageDumper
 
 	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite, float scale)
 	{
-		sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		synchronized (sprite)
+		{
+			// sprites are shared between tiles which may be drawn concurrently
+			sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		}
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
 		int displayHeight = (int) (sprite.getHeight() * scale);
@@ -1856,8 +2283,11 @@ public class MapImageDumper
 		int xmin = Math.max(0, -x);
 		int xmax = Math.min(displayWidth, dst.getWidth() - x);
 
-		float indexX = 0;
-		float indexY = 0;
+		// start from the first unclipped pixel of the sprite, so icons clipped by the left or top
+		// edge, such as at the edges of map tiles, are drawn from the same pixels as unclipped icons
+		float startX = xmin * stepSizeWidth;
+		float indexX = startX;
+		float indexY = ymin * stepSizeHeight;
 		for (int yo = ymin; yo < ymax; yo++)
 		{
 			for (int xo = xmin; xo < xmax; xo++)
@@ -1871,7 +2301,7 @@ public class MapImageDumper
 				indexX += stepSizeWidth;
 			}
 			indexY += stepSizeHeight;
-			indexX = 0;
+			indexX = startX;
 		}
 	}
 
@@ -27,9 +27,6 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
@@ -39,12 +36,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
 {
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final DefinitionMap<NpcDefinition> npcs = new DefinitionMap<>();
 
 	public NpcManager(Store store)
 	{
@@ -66,14 +64,14 @@ public class NpcManager
 
 		for (FSFile f : files.getFiles())
 		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
+			NpcDefinition npc = loader.load(f.getFileId(), f.getContentsBuffer());
 			npcs.put(f.getFileId(), npc);
 		}
 	}
 
 	public Collection<NpcDefinition> getNpcs()
 	{
-		return Collections.unmodifiableCollection(npcs.values());
+		return npcs.values();
 	}
 
 	public NpcDefinition get(int npcId)
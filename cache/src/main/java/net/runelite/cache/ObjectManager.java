@@ -27,9 +27,6 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
@@ -39,12 +36,13 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final DefinitionMap<ObjectDefinition> objects = new DefinitionMap<>();
 
 	public ObjectManager(Store store)
 	{
@@ -66,14 +64,14 @@ public class ObjectManager
 
 		for (FSFile f : files.getFiles())
 		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
+			ObjectDefinition def = loader.load(f.getFileId(), f.getContentsBuffer());
 			objects.put(f.getFileId(), def);
 		}
 	}
 
 	public Collection<ObjectDefinition> getObjects()
 	{
-		return Collections.unmodifiableCollection(objects.values());
+		return objects.values();
 	}
 
 	public ObjectDefinition getObject(int id)
@@ -26,6 +26,7 @@ package net.runelite.cache;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -33,11 +34,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.providers.SpriteProvider;
-import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -55,23 +56,31 @@ public class SpriteManager implements SpriteProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * Load the sprites, decompressing and decoding the sprite archives on the given executor
+	 *
+	 * @param executor
+	 * @throws IOException
+	 */
+	public void load(Executor executor) throws IOException
 	{
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
-		for (Archive a : index.getArchives())
-		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
-
-			SpriteLoader loader = new SpriteLoader();
-			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
-
-			for (SpriteDefinition sprite : defs)
+		storage.loadArchives(index.getArchives(), executor,
+			(a, data) -> new SpriteLoader().load(a.getArchiveId(), a.decompress(data)),
+			(a, defs) ->
 			{
-				sprites.put(sprite.getId(), sprite);
-				spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
-			}
-		}
+				for (SpriteDefinition sprite : defs)
+				{
+					sprites.put(sprite.getId(), sprite);
+					spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
+				}
+			});
 	}
 
 	public Collection<SpriteDefinition> getSprites()
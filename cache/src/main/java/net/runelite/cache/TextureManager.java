@@ -53,8 +53,7 @@ public class TextureManager implements TextureProvider
 		Index index = store.getIndex(IndexType.TEXTURES);
 		Archive archive = index.getArchive(0);
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = archive.getFilesFromContents(storage.loadArchiveContents(archive));
 
 		TextureLoader loader = new TextureLoader();
 
@@ -26,9 +26,6 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.UnderlayDefinition;
 import net.runelite.cache.definitions.loaders.UnderlayLoader;
 import net.runelite.cache.definitions.providers.UnderlayProvider;
@@ -38,11 +35,12 @@ import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.DefinitionMap;
 
 public class UnderlayManager implements UnderlayProvider
 {
 	private final Store store;
-	private final Map<Integer, UnderlayDefinition> underlays = new HashMap<>();
+	private final DefinitionMap<UnderlayDefinition> underlays = new DefinitionMap<>();
 
 	public UnderlayManager(Store store)
 	{
@@ -69,7 +67,7 @@ public class UnderlayManager implements UnderlayProvider
 
 	public Collection<UnderlayDefinition> getUnderlays()
 	{
-		return Collections.unmodifiableCollection(underlays.values());
+		return underlays.values();
 	}
 
 	@Override
@@ -104,7 +104,7 @@ public class WorldMapManager
 				.toArray();
 		assert (linkStarts.length - 1) == linkEnds.size(); // The last case in the switch statement is the default case
 
-		for (int i = 0; i < linkStarts.length; ++i)
+		for (int i = 0; i < linkEnds.size(); ++i)
 		{
 			Position linkStartPosition = Position.fromPacked(linkStarts[i]);
 			Position linkEndPosition = linkEnds.get(i);
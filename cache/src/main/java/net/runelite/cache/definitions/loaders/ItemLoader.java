@@ -30,6 +30,7 @@ import net.runelite.cache.io.InputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 
 public class ItemLoader
@@ -37,9 +38,21 @@ public class ItemLoader
 	private static final Logger logger = LoggerFactory.getLogger(ItemLoader.class);
 
 	public ItemDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	/**
+	 * Load a definition from the remaining bytes of a buffer, without copying them
+	 */
+	public ItemDefinition load(int id, ByteBuffer b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	private ItemDefinition load(int id, InputStream is)
 	{
 		ItemDefinition def = new ItemDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
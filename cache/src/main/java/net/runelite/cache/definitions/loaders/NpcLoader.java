@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.definitions.loaders;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -48,9 +49,21 @@ public class NpcLoader
 	}
 
 	public NpcDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	/**
+	 * Load a definition from the remaining bytes of a buffer, without copying them
+	 */
+	public NpcDefinition load(int id, ByteBuffer b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	private NpcDefinition load(int id, InputStream is)
 	{
 		NpcDefinition def = new NpcDefinition(id);
-		InputStream is = new InputStream(b);
 
 		while (true)
 		{
@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.definitions.loaders;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Data;
@@ -48,9 +49,21 @@ public class ObjectLoader
 	}
 
 	public ObjectDefinition load(int id, byte[] b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	/**
+	 * Load a definition from the remaining bytes of a buffer, without copying them
+	 */
+	public ObjectDefinition load(int id, ByteBuffer b)
+	{
+		return load(id, new InputStream(b));
+	}
+
+	private ObjectDefinition load(int id, InputStream is)
 	{
 		ObjectDefinition def = new ObjectDefinition();
-		InputStream is = new InputStream(b);
 
 		def.setId(id);
 
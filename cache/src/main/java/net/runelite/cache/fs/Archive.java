@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -125,6 +126,28 @@ public class Archive
 	{
 		byte[] decompressedData = decompress(data, keys);
 
+		ArchiveFiles files = newFiles();
+		files.loadContents(decompressedData);
+		return files;
+	}
+
+	/**
+	 * Split already decompressed archive contents, such as from
+	 * {@link Storage#loadArchiveContents(Archive)}, into files. The contents
+	 * may be shared, so the files are read only views of them.
+	 *
+	 * @param contents decompressed archive contents
+	 * @return
+	 */
+	public ArchiveFiles getFilesFromContents(byte[] contents)
+	{
+		ArchiveFiles files = newFiles();
+		files.loadContents(ByteBuffer.wrap(contents).asReadOnlyBuffer());
+		return files;
+	}
+
+	private ArchiveFiles newFiles()
+	{
 		ArchiveFiles files = new ArchiveFiles();
 		for (FileData fileEntry : fileData)
 		{
@@ -132,7 +155,6 @@ public class Archive
 			file.setNameHash(fileEntry.getNameHash());
 			files.addFile(file);
 		}
-		files.loadContents(decompressedData);
 		return files;
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Tomas Slusny <slusnucky@gmail.com>
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -22,24 +22,18 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package net.runelite.client.plugins.grounditems;
+package net.runelite.cache.fs;
 
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import net.runelite.api.MenuEntry;
+import java.io.IOException;
 
-@RequiredArgsConstructor
-class MenuEntryWithCount
+/**
+ * Receives decoded archives from a batch archive load
+ *
+ * @param <T> decoded type
+ * @see Storage#loadArchives(java.util.List, java.util.concurrent.Executor, ArchiveDecoder, ArchiveConsumer)
+ */
+@FunctionalInterface
+public interface ArchiveConsumer<T>
 {
-	@Getter
-	private final MenuEntry entry;
-
-	@Getter
-	private int count = 1;
-
-	void increment()
-	{
-		count++;
-	}
+	void accept(Archive archive, T decoded) throws IOException;
 }
-
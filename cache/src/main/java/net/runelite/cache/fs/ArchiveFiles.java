@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -70,6 +71,19 @@ public class ArchiveFiles
 	}
 
 	public void loadContents(byte[] data)
+	{
+		loadContents(ByteBuffer.wrap(data));
+	}
+
+	/**
+	 * Load the contents of the files from the remaining bytes of a buffer. Where the
+	 * files are stored contiguously, which is the case unless the archive was written
+	 * in multiple chunks, the files are views of the buffer rather than copies, so
+	 * the buffer must not be modified afterwards.
+	 *
+	 * @param data
+	 */
+	public void loadContents(ByteBuffer data)
 	{
 		logger.trace("Loading contents of archive ({} files)", files.size());
 
@@ -108,6 +122,22 @@ public class ArchiveFiles
 			}
 		}
 
+		if (chunks == 1)
+		{
+			// each file is contiguous, so hand out views of the data
+			int offset = data.position();
+			Iterator<FSFile> iter = files.values().iterator();
+			for (int i = 0; i < filesCount; ++i)
+			{
+				ByteBuffer view = data.duplicate();
+				view.position(offset);
+				view.limit(offset + filesSize[i]);
+				iter.next().setContents(view);
+				offset += filesSize[i];
+			}
+			return;
+		}
+
 		byte[][] fileContents = new byte[filesCount][];
 		int[] fileOffsets = new int[filesCount];
 
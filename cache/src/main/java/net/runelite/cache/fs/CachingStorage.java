@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import lombok.Value;
+
+/**
+ * A Storage which keeps recently decompressed archive contents in memory,
+ * bounded by their total size in bytes. Only {@link #loadArchiveContents(Archive, int[])}
+ * is cached; everything else is passed through to the underlying storage.
+ */
+public class CachingStorage implements Storage
+{
+	@Value
+	private static class ArchiveKey
+	{
+		int index;
+		int archive;
+		int[] keys;
+	}
+
+	private final Storage storage;
+	private final Cache<ArchiveKey, byte[]> cache;
+
+	/**
+	 * @param storage the storage to cache archives from
+	 * @param maxBytes maximum total size of the cached archive contents
+	 */
+	public CachingStorage(Storage storage, long maxBytes)
+	{
+		this.storage = storage;
+		this.cache = CacheBuilder.newBuilder()
+			// the weight budget is split between segments, so use one to keep large archives cacheable.
+			// archives are decompressed outside of the cache, so contention on it is low.
+			.concurrencyLevel(1)
+			.maximumWeight(maxBytes)
+			.<ArchiveKey, byte[]>weigher((k, v) -> v.length)
+			.recordStats()
+			.build();
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		storage.init(store);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		cache.invalidateAll();
+		storage.close();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		storage.load(store);
+	}
+
+	@Override
+	public void load(Store store, Executor executor) throws IOException
+	{
+		storage.load(store, executor);
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		storage.save(store);
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		return storage.load(index, archive);
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] data) throws IOException
+	{
+		storage.store(index, archive, data);
+		cache.asMap().keySet().removeIf(k -> k.index == index && k.archive == archive);
+	}
+
+	@Override
+	public byte[] loadArchiveContents(Archive archive, int[] keys) throws IOException
+	{
+		ArchiveKey key = new ArchiveKey(archive.getIndex().getId(), archive.getArchiveId(), keys);
+		byte[] contents = cache.getIfPresent(key);
+		if (contents != null)
+		{
+			return contents;
+		}
+
+		contents = archive.decompress(storage.loadArchive(archive), keys);
+		if (contents != null)
+		{
+			cache.put(key, contents);
+		}
+		return contents;
+	}
+
+	/**
+	 * Get the hit, miss, and eviction counts of the archive cache
+	 *
+	 * @return
+	 */
+	public CacheStats getStats()
+	{
+		return cache.stats();
+	}
+
+	/**
+	 * Get the total size of the currently cached archive contents, in bytes
+	 *
+	 * @return
+	 */
+	public long getSize()
+	{
+		return cache.asMap().values().stream().mapToLong(b -> b.length).sum();
+	}
+
+	public void invalidateAll()
+	{
+		cache.invalidateAll();
+	}
+}
@@ -25,6 +25,7 @@
 
 package net.runelite.cache.fs;
 
+import java.nio.ByteBuffer;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -37,17 +38,71 @@ public class FSFile
 	@Getter
 	@Setter
 	private int nameHash;
-	@Getter
-	@Setter
-	private byte[] contents;
+	/**
+	 * file contents, which may be a view of the archive the file was loaded from.
+	 * The position and limit are never modified.
+	 */
+	private ByteBuffer contents;
 
 	public FSFile(int fileId)
 	{
 		this.fileId = fileId;
 	}
 
+	/**
+	 * Get the contents of the file. If the contents are a view of a larger buffer,
+	 * such as when the file was loaded from a multi-file archive, they are copied,
+	 * so prefer {@link #getContentsBuffer()} to read them in place. Otherwise the
+	 * file's own array is returned. Either way, writes to the returned array are
+	 * not guaranteed to change the file, use {@link #setContents(byte[])} instead.
+	 *
+	 * @return the contents, or null if the file has no contents
+	 */
+	public byte[] getContents()
+	{
+		if (contents == null)
+		{
+			return null;
+		}
+
+		if (contents.hasArray() && contents.arrayOffset() == 0 && contents.array().length == contents.remaining())
+		{
+			return contents.array();
+		}
+
+		byte[] b = new byte[contents.remaining()];
+		contents.duplicate().get(b);
+		return b;
+	}
+
+	/**
+	 * Get a read only view of the contents of the file
+	 *
+	 * @return the contents, or null if the file has no contents
+	 */
+	public ByteBuffer getContentsBuffer()
+	{
+		return contents != null ? contents.asReadOnlyBuffer() : null;
+	}
+
+	public void setContents(byte[] contents)
+	{
+		this.contents = contents != null ? ByteBuffer.wrap(contents) : null;
+	}
+
+	/**
+	 * Set the contents of the file to a view of the remaining bytes of a buffer.
+	 * The bytes must not be modified afterwards.
+	 *
+	 * @param contents
+	 */
+	public void setContents(ByteBuffer contents)
+	{
+		this.contents = contents.slice();
+	}
+
 	public int getSize()
 	{
-		return contents.length;
+		return contents.remaining();
 	}
 }
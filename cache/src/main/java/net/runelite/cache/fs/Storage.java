@@ -25,6 +25,15 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 
 public interface Storage extends AutoCloseable
 {
@@ -35,6 +44,20 @@ public interface Storage extends AutoCloseable
 
 	void load(Store store) throws IOException;
 
+	/**
+	 * Load the store, using the given executor to decode the indexes. The
+	 * resulting store is identical to one loaded with {@link #load(Store)}.
+	 * Storages which do not support parallel loading load sequentially.
+	 *
+	 * @param store
+	 * @param executor executor to decode indexes on
+	 * @throws IOException
+	 */
+	default void load(Store store, Executor executor) throws IOException
+	{
+		load(store);
+	}
+
 	void save(Store store) throws IOException;
 
 	byte[] load(int index, int archive) throws IOException;
@@ -46,8 +69,161 @@ public interface Storage extends AutoCloseable
 		return load(archive.getIndex().getId(), archive.getArchiveId());
 	}
 
+	/**
+	 * Load and decompress an archive
+	 *
+	 * @param archive
+	 * @return the decompressed archive contents, or null if the archive could not be read
+	 * @throws IOException
+	 */
+	default byte[] loadArchiveContents(Archive archive) throws IOException
+	{
+		return loadArchiveContents(archive, null);
+	}
+
+	/**
+	 * Load and decompress an archive. The returned array may be shared with
+	 * other callers and must not be modified.
+	 *
+	 * @param archive
+	 * @param keys xtea keys, or null if the archive is not encrypted
+	 * @return the decompressed archive contents, or null if the archive could not be read
+	 * @throws IOException
+	 * @see CachingStorage
+	 */
+	default byte[] loadArchiveContents(Archive archive, int[] keys) throws IOException
+	{
+		return archive.decompress(loadArchive(archive), keys);
+	}
+
 	default void saveArchive(Archive archive, byte[] data) throws IOException
 	{
 		store(archive.getIndex().getId(), archive.getArchiveId(), data);
 	}
+
+	/**
+	 * Load and decode a batch of archives. Archives are read from storage on
+	 * the calling thread and decoded on the executor, so reads are pipelined
+	 * with decompression. Decoded archives are passed to the consumer on the
+	 * calling thread, in the order of the given archives, as they complete.
+	 * Reading stops to wait for decodes once a few archives per executor thread
+	 * are in flight, so the whole batch is not held in memory at once.
+	 *
+	 * @param archives archives to load
+	 * @param executor executor to decode archives on
+	 * @param decoder archive decoder, called on the executor
+	 * @param consumer consumer of decoded archives, called on the calling thread
+	 * @param <T> decoded type
+	 * @throws IOException if reading or decoding any archive fails
+	 */
+	default <T> void loadArchives(List<Archive> archives, Executor executor, ArchiveDecoder<T> decoder, ArchiveConsumer<T> consumer) throws IOException
+	{
+		loadArchives(archives, executor, maxPending(executor), decoder, consumer);
+	}
+
+	/**
+	 * Load and decode a batch of archives, with at most {@code maxPending}
+	 * archives read but not yet consumed at a time.
+	 *
+	 * @param archives archives to load
+	 * @param executor executor to decode archives on
+	 * @param maxPending maximum number of archives in flight
+	 * @param decoder archive decoder, called on the executor
+	 * @param consumer consumer of decoded archives, called on the calling thread
+	 * @param <T> decoded type
+	 * @throws IOException if reading or decoding any archive fails
+	 * @see #loadArchives(List, Executor, ArchiveDecoder, ArchiveConsumer)
+	 */
+	default <T> void loadArchives(List<Archive> archives, Executor executor, int maxPending, ArchiveDecoder<T> decoder, ArchiveConsumer<T> consumer) throws IOException
+	{
+		if (maxPending < 1)
+		{
+			throw new IllegalArgumentException("maxPending must be positive");
+		}
+
+		Deque<CompletableFuture<T>> pending = new ArrayDeque<>();
+		int consumed = 0;
+
+		for (Archive archive : archives)
+		{
+			while (pending.size() >= maxPending)
+			{
+				consumer.accept(archives.get(consumed++), join(pending.poll()));
+			}
+
+			byte[] data = loadArchive(archive);
+			pending.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return decoder.decode(archive, data);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor));
+
+			// hand off whatever has already finished, in order
+			while (!pending.isEmpty() && pending.peek().isDone())
+			{
+				consumer.accept(archives.get(consumed++), join(pending.poll()));
+			}
+		}
+
+		while (!pending.isEmpty())
+		{
+			consumer.accept(archives.get(consumed++), join(pending.poll()));
+		}
+	}
+
+	/**
+	 * Load and decompress a batch of archives into their files.
+	 *
+	 * @param archives archives to load
+	 * @param executor executor to decompress archives on
+	 * @param consumer consumer of the archive files, called on the calling thread
+	 * @throws IOException
+	 * @see #loadArchives(List, Executor, ArchiveDecoder, ArchiveConsumer)
+	 */
+	default void loadArchiveFiles(List<Archive> archives, Executor executor, ArchiveConsumer<ArchiveFiles> consumer) throws IOException
+	{
+		loadArchives(archives, executor, Archive::getFiles, consumer);
+	}
+
+	private static int maxPending(Executor executor)
+	{
+		int threads = Runtime.getRuntime().availableProcessors();
+		if (executor instanceof ThreadPoolExecutor)
+		{
+			threads = Math.min(threads, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+		}
+		else if (executor instanceof ForkJoinPool)
+		{
+			threads = ((ForkJoinPool) executor).getParallelism();
+		}
+		// enough to keep every thread busy while the next archives are read
+		return 4 * Math.max(1, threads);
+	}
+
+	private static <T> T join(CompletableFuture<T> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) cause).getCause();
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw ex;
+		}
+	}
 }
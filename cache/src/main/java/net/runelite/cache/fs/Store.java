@@ -29,6 +29,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import lombok.EqualsAndHashCode;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
@@ -90,6 +91,18 @@ public final class Store implements Closeable
 		storage.load(this);
 	}
 
+	/**
+	 * Load the store, decoding the indexes on the given executor
+	 *
+	 * @param executor
+	 * @throws IOException
+	 * @see Storage#load(Store, Executor)
+	 */
+	public void load(Executor executor) throws IOException
+	{
+		storage.load(this, executor);
+	}
+
 	public void save() throws IOException
 	{
 		storage.save(this);
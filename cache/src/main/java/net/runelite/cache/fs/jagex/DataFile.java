@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,23 +41,67 @@ public class DataFile implements Closeable
 	private static final int SECTOR_SIZE = 520;
 
 	private final RandomAccessFile dat;
+	/**
+	 * whether reads use a mapping of the file. This is read by readers without
+	 * holding the lock, and is cleared if the file grows too large to map.
+	 */
+	private volatile boolean mapped;
+	/**
+	 * read-only mapping of the data file, or null if not mapped or if it
+	 * has been invalidated by a write
+	 */
+	private volatile ByteBuffer map;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
 	}
 
+	/**
+	 * Create a data file, optionally memory mapping it for reads. When mapped,
+	 * reads walk the sector chain directly over the mapping and do not take
+	 * the file lock, so they may run concurrently from many threads.
+	 *
+	 * @param file
+	 * @param mapped whether to memory map the file for reads
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean mapped) throws IOException
+	{
+		this.dat = new RandomAccessFile(file, "rw");
+		this.mapped = mapped;
+		if (mapped)
+		{
+			this.map = map();
+		}
+	}
+
 	@Override
 	public void close() throws IOException
 	{
+		map = null;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		map = null;
 		dat.setLength(0L);
 	}
 
+	private ByteBuffer map() throws IOException
+	{
+		long length = dat.length();
+		if (length > Integer.MAX_VALUE)
+		{
+			logger.warn("data file is too large to map ({} bytes), falling back to unmapped reads", length);
+			mapped = false;
+			return null;
+		}
+
+		return dat.getChannel().map(FileChannel.MapMode.READ_ONLY, 0L, length);
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,11 +111,40 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
 	{
-		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
+		ByteBuffer map = this.map;
+		if (map == null && mapped)
 		{
-			logger.warn("bad read, dat length {}, requested sector {}", dat.length(), sector);
+			synchronized (this)
+			{
+				// remap after the mapping was invalidated by a write
+				map = this.map;
+				if (map == null)
+				{
+					map = this.map = map();
+				}
+			}
+		}
+
+		if (map != null)
+		{
+			// the mapping is never modified, so each reader uses its own view of it
+			return read(map.duplicate(), indexId, archiveId, sector, size);
+		}
+
+		synchronized (this)
+		{
+			return read(null, indexId, archiveId, sector, size);
+		}
+	}
+
+	private byte[] read(ByteBuffer map, int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		long length = map != null ? map.limit() : dat.length();
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
 			return null;
 		}
 
@@ -87,8 +161,6 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			dat.seek(SECTOR_SIZE * sector);
-
 			int dataBlockSize = size - readBytesCount;
 			byte headerSize;
 			int currentIndex;
@@ -102,7 +174,7 @@ public class DataFile implements Closeable
 					dataBlockSize = SECTOR_SIZE - headerSize;
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
+				int i = readSector(map, sector, readBuffer, headerSize + dataBlockSize);
 				if (i != headerSize + dataBlockSize)
 				{
 					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
@@ -127,7 +199,7 @@ public class DataFile implements Closeable
 					dataBlockSize = SECTOR_SIZE - headerSize;
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
+				int i = readSector(map, sector, readBuffer, headerSize + dataBlockSize);
 				if (i != headerSize + dataBlockSize)
 				{
 					logger.warn("short read");
@@ -153,7 +225,7 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			if (nextSector < 0 || dat.length() / SECTOR_SIZE < (long) nextSector)
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
 			{
 				logger.warn("Invalid next sector");
 				return null;
@@ -169,6 +241,26 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	private int readSector(ByteBuffer map, int sector, byte[] readBuffer, int len) throws IOException
+	{
+		long pos = (long) SECTOR_SIZE * sector;
+		if (map == null)
+		{
+			dat.seek(pos);
+			return dat.read(readBuffer, 0, len);
+		}
+
+		if (pos >= map.limit())
+		{
+			return -1;
+		}
+
+		map.position((int) pos);
+		len = Math.min(len, map.remaining());
+		map.get(readBuffer, 0, len);
+		return len;
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
 		int sector;
@@ -177,6 +269,9 @@ public class DataFile implements Closeable
 		byte[] writeBuffer = new byte[SECTOR_SIZE];
 		ByteBuffer data = ByteBuffer.wrap(compressedData);
 
+		// the mapping does not cover appended sectors, readers will remap on demand
+		map = null;
+
 		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
 		if (sector == 0)
 		{
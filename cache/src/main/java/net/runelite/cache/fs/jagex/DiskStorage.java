@@ -25,10 +25,14 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -47,17 +51,33 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean mapped;
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * Create a disk storage, optionally memory mapping the data and index
+	 * files. Mapped storage can service archive loads from many threads
+	 * concurrently.
+	 *
+	 * @param folder cache folder
+	 * @param mapped whether to memory map the cache files for reads
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean mapped) throws IOException
 	{
 		this.folder = folder;
+		this.mapped = mapped;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), mapped);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), mapped);
 	}
 
 	@Override
@@ -83,13 +103,33 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private IndexFile getIndex(int i) throws IOException
 	{
 		if (i == 255)
 		{
 			return index255;
 		}
 
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
+		{
+			indexFile = findIndex(i);
+			if (indexFile == null)
+			{
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), mapped);
+				indexFiles.add(indexFile);
+			}
+			return indexFile;
+		}
+	}
+
+	private IndexFile findIndex(int i)
+	{
 		for (IndexFile indexFile : indexFiles)
 		{
 			if (indexFile.getIndexFileId() == i)
@@ -97,10 +137,7 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
+		return null;
 	}
 
 	@Override
@@ -108,7 +145,54 @@ public class DiskStorage implements Storage
 	{
 		for (Index index : store.getIndexes())
 		{
-			loadIndex(index);
+			loadIndex(index, decodeIndex(index.getId()));
+		}
+	}
+
+	@Override
+	public void load(Store store, Executor executor) throws IOException
+	{
+		List<CompletableFuture<DecodedIndex>> futures = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			int indexId = index.getId();
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return decodeIndex(indexId);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor));
+		}
+
+		// attach in store order so the result is identical to a sequential load
+		List<Index> indexes = store.getIndexes();
+		for (int i = 0; i < indexes.size(); ++i)
+		{
+			DecodedIndex decodedIndex;
+			try
+			{
+				decodedIndex = futures.get(i).join();
+			}
+			catch (CompletionException ex)
+			{
+				Throwable cause = ex.getCause();
+				if (cause instanceof UncheckedIOException)
+				{
+					throw ((UncheckedIOException) cause).getCause();
+				}
+				if (cause instanceof RuntimeException)
+				{
+					throw (RuntimeException) cause;
+				}
+				throw ex;
+			}
+
+			loadIndex(indexes.get(i), decodedIndex);
 		}
 	}
 
@@ -124,14 +208,14 @@ public class DiskStorage implements Storage
 		return indexData;
 	}
 
-	private void loadIndex(Index index) throws IOException
+	private DecodedIndex decodeIndex(int indexId) throws IOException
 	{
-		logger.trace("Loading index {}", index.getId());
+		logger.trace("Loading index {}", indexId);
 
-		byte[] indexData = readIndex(index.getId());
+		byte[] indexData = readIndex(indexId);
 		if (indexData == null)
 		{
-			return;
+			return null;
 		}
 
 		Container res = Container.decompress(indexData, null);
@@ -140,6 +224,19 @@ public class DiskStorage implements Storage
 		IndexData id = new IndexData();
 		id.load(data);
 
+		return new DecodedIndex(res, id);
+	}
+
+	private void loadIndex(Index index, DecodedIndex decodedIndex)
+	{
+		if (decodedIndex == null)
+		{
+			return;
+		}
+
+		Container res = decodedIndex.container;
+		IndexData id = decodedIndex.indexData;
+
 		index.setProtocol(id.getProtocol());
 		index.setRevision(id.getRevision());
 		index.setNamed(id.isNamed());
@@ -223,4 +320,16 @@ public class DiskStorage implements Storage
 		logger.trace("Saved archive {}/{} at sector {}, compressed length {}",
 			index, archive, res.sector, res.compressedLength);
 	}
+
+	private static class DecodedIndex
+	{
+		private final Container container;
+		private final IndexData indexData;
+
+		private DecodedIndex(Container container, IndexData indexData)
+		{
+			this.container = container;
+			this.indexData = indexData;
+		}
+	}
 }
@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -46,27 +48,83 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	private final boolean mapped;
+	/**
+	 * read-only mapping of the index file, or null if not mapped or if it
+	 * has been invalidated by a write
+	 */
+	private volatile ByteBuffer map;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.mapped = false;
+	}
+
+	/**
+	 * Create an index file, optionally memory mapping it for reads. Mapped
+	 * reads do not take the file lock.
+	 *
+	 * @param indexFileId
+	 * @param file
+	 * @param mapped whether to memory map the file for reads
+	 * @throws IOException
+	 */
+	public IndexFile(int indexFileId, File file, boolean mapped) throws IOException
+	{
+		this.indexFileId = indexFileId;
+		this.file = file;
+		this.idx = new RandomAccessFile(file, "rw");
+		this.mapped = mapped;
+		if (mapped)
+		{
+			this.map = map();
+		}
 	}
 
 	@Override
 	public void close() throws IOException
 	{
+		map = null;
 		idx.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		map = null;
 		idx.setLength(0L);
 	}
 
+	private ByteBuffer map() throws IOException
+	{
+		return idx.getChannel().map(FileChannel.MapMode.READ_ONLY, 0L, idx.length());
+	}
+
+	private ByteBuffer getMap() throws IOException
+	{
+		ByteBuffer map = this.map;
+		if (map == null && mapped)
+		{
+			synchronized (this)
+			{
+				// remap after the mapping was invalidated by a write
+				map = this.map;
+				if (map == null)
+				{
+					map = this.map = map();
+				}
+			}
+		}
+		return map;
+	}
+
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		// the mapping may not cover the written entry, readers will remap on demand
+		map = null;
+
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -80,19 +138,41 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
 	{
-		idx.seek(id * INDEX_ENTRY_LEN);
-		int i = idx.read(buffer);
-		if (i != INDEX_ENTRY_LEN)
+		ByteBuffer map = getMap();
+		if (map == null)
 		{
-			logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
+			synchronized (this)
+			{
+				idx.seek(id * INDEX_ENTRY_LEN);
+				int i = idx.read(buffer);
+				if (i != INDEX_ENTRY_LEN)
+				{
+					logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
+					return null;
+				}
+
+				int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
+				int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
+				return createEntry(id, length, sector);
+			}
+		}
+
+		int pos = id * INDEX_ENTRY_LEN;
+		if (pos < 0 || pos + INDEX_ENTRY_LEN > map.limit())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
 			return null;
 		}
 
-		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
-		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
+		int length = ((map.get(pos) & 0xFF) << 16) | ((map.get(pos + 1) & 0xFF) << 8) | (map.get(pos + 2) & 0xFF);
+		int sector = ((map.get(pos + 3) & 0xFF) << 16) | ((map.get(pos + 4) & 0xFF) << 8) | (map.get(pos + 5) & 0xFF);
+		return createEntry(id, length, sector);
+	}
 
+	private IndexEntry createEntry(int id, int length, int sector)
+	{
 		if (length <= 0 || sector <= 0)
 		{
 			logger.debug("invalid length or sector {}/{}", length, sector);
@@ -102,8 +182,17 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	public int getIndexCount() throws IOException
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		ByteBuffer map = getMap();
+		if (map != null)
+		{
+			return map.limit() / INDEX_ENTRY_LEN;
+		}
+
+		synchronized (this)
+		{
+			return (int) (idx.length() / INDEX_ENTRY_LEN);
+		}
 	}
 }
@@ -46,9 +46,20 @@ public class InputStream extends java.io.InputStream
 		this.buffer = ByteBuffer.wrap(buffer);
 	}
 
+	/**
+	 * Read the remaining bytes of a buffer in place, without copying them.
+	 * The position and limit of the given buffer are not modified.
+	 *
+	 * @param buffer
+	 */
+	public InputStream(ByteBuffer buffer)
+	{
+		this.buffer = buffer.slice();
+	}
+
 	public byte[] getArray()
 	{
-		assert buffer.hasArray();
+		assert buffer.hasArray() && buffer.arrayOffset() == 0;
 		return buffer.array();
 	}
 
@@ -25,9 +25,14 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -80,6 +85,108 @@ public class RegionLoader
 		}
 	}
 
+	/**
+	 * Load all regions, decoding the map and location archives on the given executor
+	 *
+	 * @param executor
+	 * @throws IOException
+	 */
+	public void loadRegions(Executor executor) throws IOException
+	{
+		if (!this.regions.isEmpty())
+		{
+			return;
+		}
+
+		// the map and location archives of each region are loaded as one batch, with the
+		// location archive straight after its map, so both are read on this thread
+		List<Archive> archives = new ArrayList<>();
+		Map<Archive, Integer> regionIds = new HashMap<>();
+		Map<Archive, int[]> landKeys = new HashMap<>();
+		Set<Integer> withLocations = new HashSet<>();
+
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			Archive map = index.findArchiveByName("m" + x + "_" + y);
+			Archive land = index.findArchiveByName("l" + x + "_" + y);
+
+			assert (map == null) == (land == null);
+
+			if (map == null || land == null)
+			{
+				continue;
+			}
+
+			archives.add(map);
+			regionIds.put(map, i);
+
+			int[] keys = keyProvider.getKey(i);
+			if (keys != null)
+			{
+				archives.add(land);
+				regionIds.put(land, i);
+				landKeys.put(land, keys);
+				withLocations.add(i);
+			}
+		}
+
+		Map<Integer, Region> pendingLocations = new HashMap<>();
+		store.getStorage().loadArchives(archives, executor, (archive, data) ->
+		{
+			int i = regionIds.get(archive);
+			int x = i >> 8;
+			int y = i & 0xFF;
+			try
+			{
+				int[] keys = landKeys.get(archive);
+				if (keys == null)
+				{
+					return new MapLoader().load(x, y, archive.decompress(data));
+				}
+				return new LocationsLoader().load(x, y, archive.decompress(data, keys));
+			}
+			catch (IOException ex)
+			{
+				log.debug("Can't decrypt region " + i, ex);
+				return null;
+			}
+		}, (archive, decoded) ->
+		{
+			int i = regionIds.get(archive);
+			if (decoded instanceof MapDefinition)
+			{
+				Region region = new Region(i);
+				region.loadTerrain((MapDefinition) decoded);
+				if (withLocations.contains(i))
+				{
+					// wait for the locations, which are next in the batch
+					pendingLocations.put(i, region);
+				}
+				else
+				{
+					regions.put(i, region);
+				}
+			}
+			else if (decoded instanceof LocationsDefinition)
+			{
+				Region region = pendingLocations.remove(i);
+				if (region != null)
+				{
+					region.loadLocations((LocationsDefinition) decoded);
+					regions.put(i, region);
+				}
+			}
+			else
+			{
+				// the region is skipped if either of its archives can't be loaded
+				pendingLocations.remove(i);
+			}
+		});
+	}
+
 	public Region loadRegionFromArchive(int i) throws IOException
 	{
 		int x = i >> 8;
@@ -96,7 +203,7 @@ public class RegionLoader
 			return null;
 		}
 
-		byte[] data = map.decompress(storage.loadArchive(map));
+		byte[] data = storage.loadArchiveContents(map);
 
 		MapDefinition mapDef = new MapLoader().load(x, y, data);
 
@@ -106,7 +213,7 @@ public class RegionLoader
 		int[] keys = keyProvider.getKey(i);
 		if (keys != null)
 		{
-			data = land.decompress(storage.loadArchive(land), keys);
+			data = storage.loadArchiveContents(land, keys);
 			LocationsDefinition locDef = new LocationsLoader().load(x, y, data);
 			region.loadLocations(locDef);
 		}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.Value;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.util.Djb2;
+
+/**
+ * The crc and revision of the map and locations archives of every region,
+ * used to find which regions changed between two caches.
+ * <p>
+ * Only the region archives themselves are compared. Changes to the definitions
+ * they reference, such as underlays, overlays, objects and textures, or to the
+ * xtea keys of the locations, are not detected, and need a full redraw by
+ * running without the previous manifest.
+ * <p>
+ * The manifest also records the options the map was rendered with, as a map
+ * rendered with other options can't be redrawn in place.
+ */
+public class RegionManifest
+{
+	private static final int MAX_REGION = 32768;
+
+	@Value
+	static class Entry
+	{
+		int mapCrc;
+		int mapRevision;
+		int locationsCrc;
+		int locationsRevision;
+	}
+
+	/**
+	 * The file format of a manifest
+	 */
+	private static class Manifest
+	{
+		Map<String, String> options;
+		TreeMap<Integer, Entry> regions;
+	}
+
+	private final Map<String, String> options;
+	private final Map<Integer, Entry> entries;
+
+	private RegionManifest(Map<String, String> options, Map<Integer, Entry> entries)
+	{
+		this.options = options;
+		this.entries = entries;
+	}
+
+	/**
+	 * Create a manifest of the regions in the maps index
+	 *
+	 * @param index the maps index
+	 * @return
+	 */
+	public static RegionManifest create(Index index)
+	{
+		return create(index, Collections.emptyMap());
+	}
+
+	/**
+	 * Create a manifest of the regions in the maps index, and the options they are rendered with
+	 *
+	 * @param index the maps index
+	 * @param options render options
+	 * @return
+	 */
+	public static RegionManifest create(Index index, Map<String, String> options)
+	{
+		Map<Integer, Archive> archivesByName = new HashMap<>();
+		for (Archive archive : index.getArchives())
+		{
+			archivesByName.put(archive.getNameHash(), archive);
+		}
+
+		Map<Integer, Entry> entries = new TreeMap<>();
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			Archive map = archivesByName.get(Djb2.hash("m" + x + "_" + y));
+			Archive land = archivesByName.get(Djb2.hash("l" + x + "_" + y));
+			if (map == null || land == null)
+			{
+				continue;
+			}
+
+			entries.put(i, new Entry(map.getCrc(), map.getRevision(), land.getCrc(), land.getRevision()));
+		}
+
+		return new RegionManifest(new TreeMap<>(options), entries);
+	}
+
+	public static RegionManifest load(File file) throws IOException
+	{
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))
+		{
+			Gson gson = new Gson();
+			JsonObject json = gson.fromJson(reader, JsonObject.class);
+			if (!json.has("regions"))
+			{
+				// manifests without render options are only regions, and their options are unknown
+				// CHECKSTYLE:OFF
+				Map<Integer, Entry> entries = gson.fromJson(json, new TypeToken<TreeMap<Integer, Entry>>() { }.getType());
+				// CHECKSTYLE:ON
+				return new RegionManifest(null, entries);
+			}
+
+			Manifest manifest = gson.fromJson(json, Manifest.class);
+			return new RegionManifest(manifest.options, manifest.regions);
+		}
+	}
+
+	public void save(File file) throws IOException
+	{
+		Manifest manifest = new Manifest();
+		manifest.options = options;
+		manifest.regions = new TreeMap<>(entries);
+
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))
+		{
+			new Gson().toJson(manifest, writer);
+		}
+	}
+
+	public Set<Integer> getRegions()
+	{
+		return entries.keySet();
+	}
+
+	/**
+	 * Find the regions which were added, removed, or had their map or locations
+	 * archives changed since a previous manifest
+	 *
+	 * @param previous the previous manifest
+	 * @return ids of the changed regions
+	 */
+	public Set<Integer> getChangedRegions(RegionManifest previous)
+	{
+		Set<Integer> changed = new HashSet<>();
+		for (Map.Entry<Integer, Entry> entry : entries.entrySet())
+		{
+			if (!Objects.equals(entry.getValue(), previous.entries.get(entry.getKey())))
+			{
+				changed.add(entry.getKey());
+			}
+		}
+
+		for (Integer region : previous.entries.keySet())
+		{
+			if (!entries.containsKey(region))
+			{
+				changed.add(region);
+			}
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Check if the regions of this manifest span the same region coordinates as
+	 * a previous manifest. Rendered maps are sized to the span of the regions,
+	 * so they can only be redrawn in place if it has not changed.
+	 *
+	 * @param previous the previous manifest
+	 * @return
+	 */
+	public boolean hasSameBounds(RegionManifest previous)
+	{
+		return Arrays.equals(getBounds(), previous.getBounds());
+	}
+
+	/**
+	 * Check if the regions of this manifest are rendered with the same options as a previous manifest
+	 *
+	 * @param previous the previous manifest
+	 * @return
+	 */
+	public boolean hasSameOptions(RegionManifest previous)
+	{
+		return previous.options != null && options.equals(previous.options);
+	}
+
+	private int[] getBounds()
+	{
+		int[] bounds = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+		for (int region : entries.keySet())
+		{
+			int x = region >> 8;
+			int y = region & 0xFF;
+			bounds[0] = Math.min(bounds[0], x);
+			bounds[1] = Math.min(bounds[1], y);
+			bounds[2] = Math.max(bounds[2], x);
+			bounds[3] = Math.max(bounds[3], y);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Expand a set of regions to include their neighbors, whose rendering
+	 * depends on them through ground blending and overlapping objects
+	 *
+	 * @param regions region ids
+	 * @return the regions and their neighbors
+	 */
+	public static Set<Integer> withNeighbors(Set<Integer> regions)
+	{
+		Set<Integer> expanded = new HashSet<>();
+		for (int region : regions)
+		{
+			int x = region >> 8;
+			int y = region & 0xFF;
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					int nx = x + dx;
+					int ny = y + dy;
+					if (nx >= 0 && nx < 128 && ny >= 0 && ny < 256)
+					{
+						expanded.add((nx << 8) | ny);
+					}
+				}
+			}
+		}
+		return expanded;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A map of definitions by id. Definition ids are dense and start from 0, so the
+ * definitions are stored in an array indexed by id, which avoids boxing the id
+ * and hashing on each lookup.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionMap<T>
+{
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] definitions;
+	private int size;
+
+	public DefinitionMap()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity expected number of definitions
+	 */
+	public DefinitionMap(int capacity)
+	{
+		definitions = new Object[Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Get the definition with the given id
+	 *
+	 * @param id
+	 * @return the definition, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int id)
+	{
+		if (id < 0 || id >= definitions.length)
+		{
+			return null;
+		}
+		return (T) definitions[id];
+	}
+
+	/**
+	 * Set the definition with the given id
+	 *
+	 * @param id
+	 * @param definition
+	 * @return the previous definition with the id, or null if there was none
+	 */
+	public T put(int id, T definition)
+	{
+		if (id < 0)
+		{
+			throw new IllegalArgumentException("negative id " + id);
+		}
+
+		if (id >= definitions.length)
+		{
+			definitions = Arrays.copyOf(definitions, Math.max(id + 1, definitions.length * 2));
+		}
+
+		T previous = get(id);
+		definitions[id] = definition;
+		if (previous == null && definition != null)
+		{
+			++size;
+		}
+		else if (previous != null && definition == null)
+		{
+			--size;
+		}
+		return previous;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public void clear()
+	{
+		Arrays.fill(definitions, null);
+		size = 0;
+	}
+
+	/**
+	 * Get an unmodifiable view of the definitions, in order of id
+	 *
+	 * @return
+	 */
+	public Collection<T> values()
+	{
+		return new AbstractCollection<T>()
+		{
+			@Override
+			public Iterator<T> iterator()
+			{
+				return new DefinitionIterator();
+			}
+
+			@Override
+			public int size()
+			{
+				return size;
+			}
+		};
+	}
+
+	private class DefinitionIterator implements Iterator<T>
+	{
+		private int next = advance(0);
+
+		private int advance(int from)
+		{
+			while (from < definitions.length && definitions[from] == null)
+			{
+				++from;
+			}
+			return from;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return next < definitions.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+
+			T definition = (T) definitions[next];
+			next = advance(next + 1);
+			return definition;
+		}
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a zoom level pyramid of fixed size PNG tiles, as used by web maps.
+ * Tiles for the most detailed zoom level are given row by row, and each
+ * zoomed out level is built by downscaling as soon as the rows under it are
+ * complete, so only about one row of tiles per zoom level is held in memory.
+ * <p>
+ * Tiles are written to {@code <dir>/<zoom>/<x>/<y>.png}, where zoom 0 is the
+ * most zoomed out level and y increases downwards.
+ * <p>
+ * An existing pyramid can be patched with {@link #replaceTile(int, int, BufferedImage)},
+ * in which case the zoomed out tiles above the replaced tiles are rebuilt from the
+ * tiles on disk.
+ */
+@Slf4j
+public class TilePyramidWriter
+{
+	private final File directory;
+	private final int tileSize;
+	private final int imageType;
+	private final int maxZoom;
+	private final Executor executor;
+
+	/**
+	 * pending parent tiles for each zoom level, by x, for the parent row currently being built
+	 */
+	private final List<Map<Integer, BufferedImage>> parents = new ArrayList<>();
+	/**
+	 * the last row which was started for each zoom level
+	 */
+	private final int[] rows;
+	private final List<CompletableFuture<Void>> writes = new ArrayList<>();
+	/**
+	 * tiles at the most detailed zoom level which were replaced in an existing pyramid
+	 */
+	private final Set<Point> replaced = new HashSet<>();
+
+	/**
+	 * @param directory output directory
+	 * @param tileSize tile width and height, in pixels
+	 * @param imageType image type of the tiles
+	 * @param zoomLevels number of zoom levels. The tiles passed to {@link #writeTile(int, int, BufferedImage)}
+	 *                   are at zoom {@code zoomLevels - 1}.
+	 * @param executor executor to encode and write tiles on
+	 */
+	public TilePyramidWriter(File directory, int tileSize, int imageType, int zoomLevels, Executor executor)
+	{
+		this.directory = directory;
+		this.tileSize = tileSize;
+		this.imageType = imageType;
+		this.maxZoom = zoomLevels - 1;
+		this.executor = executor;
+		this.rows = new int[zoomLevels];
+		for (int i = 0; i < zoomLevels; ++i)
+		{
+			parents.add(new TreeMap<>());
+		}
+	}
+
+	/**
+	 * Compute the number of zoom levels required to zoom out to a single tile
+	 *
+	 * @param columns number of columns of tiles at the most detailed zoom level
+	 * @param rows number of rows of tiles at the most detailed zoom level
+	 * @return
+	 */
+	public static int zoomLevelsFor(int columns, int rows)
+	{
+		int size = Math.max(1, Math.max(columns, rows));
+		return 32 - Integer.numberOfLeadingZeros(size - 1) + 1;
+	}
+
+	/**
+	 * Write a tile at the most detailed zoom level. Tiles must be written in
+	 * row order, top row first, and the tile must not be modified afterwards.
+	 *
+	 * @param x tile column
+	 * @param y tile row
+	 * @param tile tile image
+	 * @throws IOException
+	 */
+	public void writeTile(int x, int y, BufferedImage tile) throws IOException
+	{
+		writeTile(maxZoom, x, y, tile);
+	}
+
+	/**
+	 * Replace a tile at the most detailed zoom level of an existing pyramid.
+	 * The zoomed out tiles above it are rebuilt by {@link #finish()}.
+	 *
+	 * @param x tile column
+	 * @param y tile row
+	 * @param tile tile image, or null to remove the tile
+	 * @throws IOException
+	 */
+	public void replaceTile(int x, int y, BufferedImage tile) throws IOException
+	{
+		if (tile != null)
+		{
+			writes.add(CompletableFuture.runAsync(() -> write(maxZoom, x, y, tile), executor));
+		}
+		else
+		{
+			getTileFile(maxZoom, x, y).delete();
+		}
+		replaced.add(new Point(x, y));
+	}
+
+	/**
+	 * Finish writing all tiles, flushing the partially built zoomed out levels
+	 * and rebuilding the tiles above any replaced tiles
+	 *
+	 * @throws IOException
+	 */
+	public void finish() throws IOException
+	{
+		for (int zoom = maxZoom; zoom > 0; --zoom)
+		{
+			flushParents(zoom);
+		}
+		awaitWrites();
+
+		Set<Point> dirty = new HashSet<>(replaced);
+		replaced.clear();
+		for (int zoom = maxZoom; zoom > 0 && !dirty.isEmpty(); --zoom)
+		{
+			Set<Point> dirtyParents = new HashSet<>();
+			for (Point point : dirty)
+			{
+				dirtyParents.add(new Point(point.x >> 1, point.y >> 1));
+			}
+
+			for (Point parent : dirtyParents)
+			{
+				rebuildTile(zoom - 1, parent.x, parent.y);
+			}
+			// the next level is built from this one
+			awaitWrites();
+
+			dirty = dirtyParents;
+		}
+	}
+
+	/**
+	 * Rebuild a zoomed out tile from its child tiles on disk
+	 */
+	private void rebuildTile(int zoom, int x, int y) throws IOException
+	{
+		BufferedImage tile = null;
+		for (int i = 0; i < 4; ++i)
+		{
+			int childX = (x << 1) | (i & 1);
+			int childY = (y << 1) | (i >> 1);
+			File file = getTileFile(zoom + 1, childX, childY);
+			if (!file.exists())
+			{
+				continue;
+			}
+
+			if (tile == null)
+			{
+				tile = new BufferedImage(tileSize, tileSize, imageType);
+			}
+			drawChild(tile, childX, childY, ImageIO.read(file));
+		}
+
+		if (tile == null)
+		{
+			getTileFile(zoom, x, y).delete();
+			return;
+		}
+
+		BufferedImage parent = tile;
+		writes.add(CompletableFuture.runAsync(() -> write(zoom, x, y, parent), executor));
+	}
+
+	private void drawChild(BufferedImage parent, int x, int y, BufferedImage tile)
+	{
+		int half = tileSize / 2;
+		Graphics2D graphics = parent.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.drawImage(tile, (x & 1) * half, (y & 1) * half, half, half, null);
+		graphics.dispose();
+	}
+
+	private File getTileFile(int zoom, int x, int y)
+	{
+		return new File(directory, zoom + File.separator + x + File.separator + y + ".png");
+	}
+
+	private void writeTile(int zoom, int x, int y, BufferedImage tile) throws IOException
+	{
+		if (y < rows[zoom])
+		{
+			throw new IllegalArgumentException("tiles must be written in row order");
+		}
+
+		if (y != rows[zoom])
+		{
+			// moving to a new row, the parents of the previous row pair are complete
+			// once this tile is in a different parent row
+			if (zoom > 0 && (y >> 1) != (rows[zoom] >> 1))
+			{
+				flushParents(zoom);
+			}
+			rows[zoom] = y;
+
+			if (zoom == maxZoom)
+			{
+				// keep at most about a row of encoded tiles in flight
+				awaitWrites();
+			}
+		}
+
+		writes.add(CompletableFuture.runAsync(() -> write(zoom, x, y, tile), executor));
+
+		if (zoom > 0)
+		{
+			BufferedImage parent = parents.get(zoom - 1).computeIfAbsent(x >> 1, k -> new BufferedImage(tileSize, tileSize, imageType));
+			drawChild(parent, x, y, tile);
+		}
+	}
+
+	/**
+	 * Write the pending parents built from the current row pair of the given zoom level
+	 */
+	private void flushParents(int zoom) throws IOException
+	{
+		Map<Integer, BufferedImage> pending = parents.get(zoom - 1);
+		if (pending.isEmpty())
+		{
+			return;
+		}
+
+		int parentY = rows[zoom] >> 1;
+		List<Map.Entry<Integer, BufferedImage>> entries = new ArrayList<>(pending.entrySet());
+		pending.clear();
+
+		for (Map.Entry<Integer, BufferedImage> entry : entries)
+		{
+			writeTile(zoom - 1, entry.getKey(), parentY, entry.getValue());
+		}
+	}
+
+	private void write(int zoom, int x, int y, BufferedImage tile)
+	{
+		File file = getTileFile(zoom, x, y);
+		file.getParentFile().mkdirs();
+
+		try
+		{
+			ImageIO.write(tile, "png", file);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+		log.trace("Wrote tile {}", file);
+	}
+
+	private void awaitWrites() throws IOException
+	{
+		try
+		{
+			CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw ex;
+		}
+		finally
+		{
+			writes.clear();
+		}
+	}
+}
@@ -27,9 +27,16 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.region.Region;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Rule;
+import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,4 +69,46 @@ public class HeightMapDumperTest
 			logger.info("Wrote image {}", imageFile);
 		}
 	}
+
+	@Test
+	public void testRedrawChangedRegions() throws IOException
+	{
+		int[] regionIds = {50 << 8 | 50, 50 << 8 | 51, 51 << 8 | 50, 51 << 8 | 51};
+		int changed = regionIds[3];
+
+		File previousCache = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(previousCache, true)))
+		{
+			new SyntheticStore(store, 42).addRegions(Collections.emptyMap(), regionIds);
+			store.save();
+		}
+
+		// the same regions, except for the last one
+		File cache = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(cache, true)))
+		{
+			new SyntheticStore(store, 42).addRegions(Collections.emptyMap(), Arrays.copyOf(regionIds, 3));
+			new SyntheticStore(store, 43).addRegions(Collections.emptyMap(), changed);
+			store.save();
+		}
+
+		File outDir = folder.newFolder();
+		File manifest = new File(folder.getRoot(), "manifest.json");
+		HeightMapDumper.main(new String[]{"--cachedir", previousCache.getPath(), "--outputdir", outDir.getPath(), "--manifest", manifest.getPath()});
+		HeightMapDumper.main(new String[]{"--cachedir", cache.getPath(), "--outputdir", outDir.getPath(), "--manifest", manifest.getPath()});
+
+		File expectedDir = folder.newFolder();
+		HeightMapDumper.main(new String[]{"--cachedir", cache.getPath(), "--outputdir", expectedDir.getPath()});
+
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			BufferedImage image = ImageIO.read(new File(outDir, "heightmap-" + z + ".png"));
+			BufferedImage expected = ImageIO.read(new File(expectedDir, "heightmap-" + z + ".png"));
+
+			int width = image.getWidth(), height = image.getHeight();
+			assertEquals(expected.getWidth(), width);
+			assertEquals(expected.getHeight(), height);
+			assertArrayEquals(expected.getRGB(0, 0, width, height, null, 0, width), image.getRGB(0, 0, width, height, null, 0, width));
+		}
+	}
 }
@@ -27,11 +27,23 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.XteaKeyManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -104,4 +116,87 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	public void testDrawMapParallel() throws IOException
+	{
+		int[] key = {1, 2, 3, 4};
+		int[] regionIds = {50 << 8 | 50, 50 << 8 | 51, 51 << 8 | 50, 51 << 8 | 51};
+		Map<Integer, int[]> keys = new HashMap<>();
+		for (int regionId : regionIds)
+		{
+			keys.put(regionId, key);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store store = new Store(new DiskStorage(folder.newFolder(), true)))
+		{
+			SyntheticStore synthetic = new SyntheticStore(store, 42);
+			// the world map icon is drawn where all four regions meet, so each tile draws part of it
+			synthetic.addMapDefinitions(51 << 8 | 51);
+			synthetic.addRegions(keys, regionIds);
+
+			MapImageDumper dumper = new MapImageDumper(store, keys::get);
+			dumper.setRenderLabels(false);
+			dumper.setLowMemory(false);
+			dumper.load();
+
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				BufferedImage image = dumper.drawMap(z, executor);
+				BufferedImage expected = dumper.drawMap(z);
+
+				int width = image.getWidth(), height = image.getHeight();
+				assertEquals(expected.getWidth(), width);
+				assertEquals(expected.getHeight(), height);
+				assertArrayEquals(expected.getRGB(0, 0, width, height, null, 0, width), image.getRGB(0, 0, width, height, null, 0, width));
+			}
+
+			// the options can be changed after loading, and the icons were drawn
+			BufferedImage icons = dumper.drawMap(0);
+			dumper.setRenderIcons(false);
+			BufferedImage noIcons = dumper.drawMap(0);
+			int width = icons.getWidth(), height = icons.getHeight();
+			assertFalse(Arrays.equals(icons.getRGB(0, 0, width, height, null, 0, width), noIcons.getRGB(0, 0, width, height, null, 0, width)));
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testRedrawMismatchedImage() throws IOException
+	{
+		int[] regionIds = {50 << 8 | 50, 50 << 8 | 51, 51 << 8 | 50, 51 << 8 | 51};
+
+		File cache = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(cache, true)))
+		{
+			SyntheticStore synthetic = new SyntheticStore(store, 42);
+			synthetic.addMapDefinitions(51 << 8 | 51);
+			synthetic.addRegions(Collections.emptyMap(), regionIds);
+			store.save();
+		}
+
+		File xteas = folder.newFile();
+		Files.write(xteas.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+
+		File outDir = folder.newFolder();
+		File manifest = new File(folder.getRoot(), "manifest.json");
+		String[] args = {"--cachedir", cache.getPath(), "--xteapath", xteas.getPath(), "--outputdir", outDir.getPath(), "--manifest", manifest.getPath()};
+		MapImageDumper.main(args);
+
+		// an image drawn at another scale can't be redrawn in place, so it is drawn again in full
+		File imageFile = new File(outDir, "img-0.png");
+		BufferedImage expected = ImageIO.read(imageFile);
+		ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png", imageFile);
+		MapImageDumper.main(args);
+
+		BufferedImage image = ImageIO.read(imageFile);
+		int width = image.getWidth(), height = image.getHeight();
+		assertEquals(expected.getWidth(), width);
+		assertEquals(expected.getHeight(), height);
+		assertArrayEquals(expected.getRGB(0, 0, width, height, null, 0, width), image.getRGB(0, 0, width, height, null, 0, width));
+	}
 }
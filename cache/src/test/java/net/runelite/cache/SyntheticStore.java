@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.util.Djb2;
+
+/**
+ * Writes small, seeded, synthetic cache content to a store, for tests which
+ * would otherwise need a real cache
+ */
+public class SyntheticStore
+{
+	/**
+	 * Number of underlay and overlay definitions referenced by the regions
+	 */
+	public static final int UNDERLAYS = 4;
+	public static final int OVERLAYS = 4;
+	/**
+	 * Number of object definitions, which covers the ids of the locations in the regions
+	 */
+	public static final int OBJECTS = 40;
+	/**
+	 * Size of the map icon sprite, which is large enough for icons to overlap neighboring regions
+	 */
+	public static final int ICON_SIZE = 24;
+
+	private static final int MAP_ICON_AREA = 0;
+	private static final int INTERMAP_LINK_SCRIPT = 1705;
+
+	private final Store store;
+	private final Random random;
+
+	public SyntheticStore(Store store, long seed)
+	{
+		this.store = store;
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * Add the underlay, overlay, object, texture, map scene, area, world map,
+	 * and font data needed to load and draw the regions
+	 *
+	 * @param iconRegionId region to place a world map element in. The element is
+	 * placed on the region's south west corner, so its icon overlaps neighboring regions.
+	 * @throws IOException
+	 */
+	public void addMapDefinitions(int iconRegionId) throws IOException
+	{
+		Index configs = index(IndexType.CONFIGS);
+
+		byte[][] underlays = new byte[UNDERLAYS][];
+		for (int i = 0; i < UNDERLAYS; ++i)
+		{
+			OutputStream out = new OutputStream();
+			out.writeByte(1);
+			out.write24BitInt(random.nextInt(0x1000000));
+			out.writeByte(0);
+			underlays[i] = out.flip();
+		}
+		addArchive(configs, ConfigType.UNDERLAY.getId(), null, null, underlays);
+
+		byte[][] overlays = new byte[OVERLAYS][];
+		for (int i = 0; i < OVERLAYS; ++i)
+		{
+			OutputStream out = new OutputStream();
+			out.writeByte(1);
+			out.write24BitInt(random.nextInt(0x1000000));
+			if (i == 0)
+			{
+				out.writeByte(2);
+				out.writeByte(0); // texture
+			}
+			out.writeByte(0);
+			overlays[i] = out.flip();
+		}
+		addArchive(configs, ConfigType.OVERLAY.getId(), null, null, overlays);
+
+		byte[][] objects = new byte[OBJECTS][];
+		for (int i = 0; i < OBJECTS; ++i)
+		{
+			OutputStream out = new OutputStream();
+			out.writeByte(14);
+			out.writeByte(1 + random.nextInt(2));
+			out.writeByte(15);
+			out.writeByte(1 + random.nextInt(2));
+			if (random.nextInt(4) == 0)
+			{
+				out.writeByte(68);
+				out.writeShort(0); // map scene
+			}
+			if (random.nextInt(4) == 0)
+			{
+				out.writeByte(82);
+				out.writeShort(MAP_ICON_AREA);
+			}
+			out.writeByte(0);
+			objects[i] = out.flip();
+		}
+		addArchive(configs, ConfigType.OBJECT.getId(), null, null, objects);
+
+		OutputStream texture = new OutputStream();
+		texture.writeShort(random.nextInt(0x10000)); // average color
+		texture.writeByte(0);
+		texture.writeByte(1);
+		texture.writeShort(0); // sprite
+		texture.writeInt(0);
+		texture.writeByte(0);
+		texture.writeByte(0);
+		addArchive(index(IndexType.TEXTURES), 0, null, null, texture.flip());
+
+		Index sprites = index(IndexType.SPRITES);
+		addArchive(sprites, 0, "mapscene", null, sprite(2, 2));
+		addArchive(sprites, 1, null, null, sprite(ICON_SIZE, ICON_SIZE));
+
+		// an unnamed area, which is drawn as an icon and not a label
+		OutputStream area = new OutputStream();
+		area.writeByte(1);
+		area.writeShort(1); // sprite
+		area.writeByte(0);
+		addArchive(configs, ConfigType.AREA.getId(), null, null, area.flip());
+
+		// a composite map with no map squares or zones, so element positions are world positions
+		OutputStream composite = new OutputStream();
+		composite.writeShort(0);
+		composite.writeShort(0);
+		composite.writeShort(1);
+		composite.writeShort(MAP_ICON_AREA);
+		composite.writeInt((iconRegionId >> 8) * Region.X << 14 | (iconRegionId & 0xFF) * Region.Y);
+		composite.writeByte(0); // members only
+		addArchive(index(IndexType.WORLDMAP), 0, "compositemap", null, composite.flip());
+
+		// the intermap link script, with no links. The last case of its switch is the default case.
+		OutputStream script = new OutputStream();
+		script.writeByte(0); // name
+		script.writeInt(0); // opcode count
+		script.writeShort(0);
+		script.writeShort(0);
+		script.writeShort(0);
+		script.writeShort(0);
+		script.writeByte(1); // switch count
+		script.writeShort(1);
+		script.writeInt(0);
+		script.writeInt(0);
+		script.writeShort(1 + 2 + 8);
+		addArchive(index(IndexType.CLIENTSCRIPT), INTERMAP_LINK_SCRIPT, null, null, script.flip());
+
+		// labels aren't drawn from synthetic stores, but the index must exist for fonts to load
+		index(IndexType.FONTS);
+	}
+
+	/**
+	 * Add the map and location archives of some regions. Location archives are
+	 * encrypted with the region's key, if it has one.
+	 *
+	 * @param keys xtea keys by region id
+	 * @param regionIds regions to add
+	 * @throws IOException
+	 */
+	public void addRegions(Map<Integer, int[]> keys, int... regionIds) throws IOException
+	{
+		Index index = index(IndexType.MAPS);
+		for (int regionId : regionIds)
+		{
+			int x = regionId >> 8;
+			int y = regionId & 0xFF;
+			addArchive(index, index.getArchives().size(), "m" + x + "_" + y, null, map());
+			addArchive(index, index.getArchives().size(), "l" + x + "_" + y, keys.get(regionId), locations());
+		}
+	}
+
+	private Index index(IndexType type)
+	{
+		Index index = store.findIndex(type.getNumber());
+		return index != null ? index : store.addIndex(type.getNumber());
+	}
+
+	private void addArchive(Index index, int archiveId, String name, int[] keys, byte[]... contents) throws IOException
+	{
+		Archive archive = index.addArchive(archiveId);
+		if (name != null)
+		{
+			archive.setNameHash(Djb2.hash(name));
+		}
+		archive.setCompression(CompressionType.GZ);
+
+		FileData[] fileData = new FileData[contents.length];
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < contents.length; ++i)
+		{
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(files.saveContents(), keys);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	/**
+	 * A single frame sprite with a 3 color palette
+	 */
+	private byte[] sprite(int width, int height)
+	{
+		OutputStream sprite = new OutputStream();
+		sprite.writeByte(0); // flags
+		for (int i = 0; i < width * height; ++i)
+		{
+			sprite.writeByte(random.nextInt(3));
+		}
+		for (int i = 1; i < 3; ++i)
+		{
+			sprite.write24BitInt(1 + random.nextInt(0xFFFFFF));
+		}
+		sprite.writeShort(width);
+		sprite.writeShort(height);
+		sprite.writeByte(2);
+		sprite.writeShort(0);
+		sprite.writeShort(0);
+		sprite.writeShort(width);
+		sprite.writeShort(height);
+		sprite.writeShort(1);
+		return sprite.flip();
+	}
+
+	private byte[] map()
+	{
+		OutputStream out = new OutputStream();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					if (z > 0 && random.nextInt(4) != 0)
+					{
+						// empty tile
+						out.writeShort(0);
+						continue;
+					}
+
+					if (random.nextInt(3) == 0)
+					{
+						// overlay with a random path and rotation
+						out.writeShort(2 + random.nextInt(48));
+						out.writeShort(1 + random.nextInt(OVERLAYS));
+					}
+					out.writeShort(82 + random.nextInt(UNDERLAYS));
+					out.writeShort(1);
+					// keep the heights of all planes in the range the height map can draw
+					out.writeByte(random.nextInt(64));
+				}
+			}
+		}
+		return out.flip();
+	}
+
+	private byte[] locations()
+	{
+		OutputStream out = new OutputStream();
+		int id = -1;
+		for (int i = 0; i < 8; ++i)
+		{
+			int idOffset = 1 + random.nextInt(4);
+			out.writeShortSmart(idOffset);
+			id += idOffset;
+
+			int position = 0;
+			for (int j = 1 + random.nextInt(4); j > 0; --j)
+			{
+				int next = position + 1 + random.nextInt(512);
+				out.writeShortSmart(next - position + 1);
+				out.writeByte(random.nextInt(23) << 2 | random.nextInt(4));
+				position = next;
+			}
+			out.writeShortSmart(0);
+		}
+		out.writeShortSmart(0);
+		return out.flip();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.nio.ByteBuffer;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ArchiveFilesTest
+{
+	@Test
+	public void testLoadContents()
+	{
+		byte[] data = save(new byte[]{1, 2, 3}, new byte[]{4, 5}, new byte[]{6});
+
+		ArchiveFiles files = create(3);
+		files.loadContents(data);
+
+		assertArrayEquals(new byte[]{1, 2, 3}, files.findFile(0).getContents());
+		assertArrayEquals(new byte[]{4, 5}, files.findFile(1).getContents());
+		assertArrayEquals(new byte[]{6}, files.findFile(2).getContents());
+		assertEquals(2, files.findFile(1).getSize());
+
+		// the files are views of the archive data
+		data[3] = 42;
+		assertEquals(42, files.findFile(1).getContentsBuffer().get(0));
+	}
+
+	@Test
+	public void testLoadContentsDirect()
+	{
+		byte[] data = save(new byte[]{1, 2, 3}, new byte[]{4, 5});
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 4);
+		direct.position(4);
+		direct.put(data);
+		direct.position(4);
+
+		ArchiveFiles files = create(2);
+		files.loadContents(direct);
+
+		assertArrayEquals(new byte[]{1, 2, 3}, files.findFile(0).getContents());
+		assertArrayEquals(new byte[]{4, 5}, files.findFile(1).getContents());
+		assertEquals(4, direct.position());
+	}
+
+	@Test
+	public void testLoadDefinitionFromView()
+	{
+		// name "abc", members
+		byte[] item = {2, 'a', 'b', 'c', 0, 16, 0};
+		byte[] data = save(new byte[]{0}, item);
+
+		ArchiveFiles files = create(2);
+		files.loadContents(data);
+
+		ItemDefinition def = new ItemLoader().load(1, files.findFile(1).getContentsBuffer());
+		assertEquals("abc", def.getName());
+		assertTrue(def.isMembers());
+	}
+
+	@Test
+	public void testNoContents()
+	{
+		FSFile file = new FSFile(0);
+		assertNull(file.getContents());
+		assertNull(file.getContentsBuffer());
+	}
+
+	private static ArchiveFiles create(int count)
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < count; ++i)
+		{
+			files.addFile(new FSFile(i));
+		}
+		return files;
+	}
+
+	private static byte[] save(byte[]... contents)
+	{
+		ArchiveFiles files = create(contents.length);
+		for (int i = 0; i < contents.length; ++i)
+		{
+			files.findFile(i).setContents(contents[i]);
+		}
+		return files.saveContents();
+	}
+}
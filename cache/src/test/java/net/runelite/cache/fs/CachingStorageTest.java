@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CachingStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static Archive addArchive(Store store, Index index, int id, byte[] contents) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		FileData[] fileData = new FileData[1];
+		fileData[0] = new FileData();
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(contents, null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+		return archive;
+	}
+
+	@Test
+	public void testCache() throws IOException
+	{
+		CachingStorage storage = new CachingStorage(new DiskStorage(folder.newFolder()), 1024);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = addArchive(store, index, 0, new byte[600]);
+			Archive archive2 = addArchive(store, index, 1, new byte[600]);
+
+			byte[] contents = storage.loadArchiveContents(archive);
+			assertArrayEquals(new byte[600], contents);
+			assertSame(contents, storage.loadArchiveContents(archive));
+			assertEquals(1, storage.getStats().missCount());
+			assertEquals(1, storage.getStats().hitCount());
+
+			// exceeds the byte budget and evicts the first archive
+			storage.loadArchiveContents(archive2);
+			assertEquals(1, storage.getStats().evictionCount());
+			assertEquals(600, storage.getSize());
+
+			// overwriting an archive invalidates it
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress("test".getBytes(), null);
+			archive2.setCrc(container.crc);
+			storage.saveArchive(archive2, container.data);
+			assertEquals(0, storage.getSize());
+			assertArrayEquals("test".getBytes(), storage.loadArchiveContents(archive2));
+		}
+	}
+
+	@Test
+	public void testFilesFromCachedContents() throws IOException
+	{
+		CachingStorage storage = new CachingStorage(new DiskStorage(folder.newFolder()), 1024);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = addArchive(store, index, 0, new byte[]{1, 2, 3});
+
+			// the files of cached contents are copied out, so modifying them doesn't modify the cache
+			byte[] file = archive.getFilesFromContents(storage.loadArchiveContents(archive)).findFile(0).getContents();
+			file[0] = 42;
+			assertArrayEquals(new byte[]{1, 2, 3}, storage.loadArchiveContents(archive));
+		}
+	}
+}
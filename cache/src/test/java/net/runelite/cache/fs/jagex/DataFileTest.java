@@ -167,4 +167,35 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+		DataFileWriteResult res;
+		try (DataFile df = new DataFile(file))
+		{
+			res = df.write(42, 0x1FFFF, b);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertArrayEquals(b, df.read(42, 0x1FFFF, res.sector, res.compressedLength));
+
+			// writes invalidate the mapping, and the new sectors must be readable
+			DataFileWriteResult res2 = df.write(42, 3, "test".getBytes());
+			Assert.assertEquals("test", new String(df.read(42, 3, res2.sector, res2.compressedLength)));
+			Assert.assertArrayEquals(b, df.read(42, 0x1FFFF, res.sector, res.compressedLength));
+
+			// bad reads
+			Assert.assertNull(df.read(42, 3, res.sector, res.compressedLength));
+			Assert.assertNull(df.read(42, 3, res2.sector + 100, 4));
+		}
+	}
 }
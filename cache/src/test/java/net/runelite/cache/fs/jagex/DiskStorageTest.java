@@ -25,6 +25,11 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -101,4 +106,131 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testParallelLoad() throws Exception
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			for (int i = 0; i < 8; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(i * 3);
+				for (int j = 0; j < 10 + i; ++j)
+				{
+					Archive archive = index.addArchive(j);
+					archive.setNameHash(i * 100 + j);
+					archive.setRevision(j);
+					archive.setCrc(i ^ j);
+					FileData[] fileData = new FileData[1];
+					fileData[0] = new FileData();
+					archive.setFileData(fileData);
+				}
+			}
+			store.save();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store sequential = new Store(new DiskStorage(file));
+			Store parallel = new Store(new DiskStorage(file, true)))
+		{
+			sequential.load();
+			parallel.load(executor);
+
+			assertEquals(sequential, parallel);
+			for (int i = 0; i < 8; ++i)
+			{
+				Index index = sequential.findIndex(i);
+				Index index2 = parallel.findIndex(i);
+				assertEquals(index.getCrc(), index2.getCrc());
+				assertEquals(index.getCompression(), index2.getCompression());
+				assertEquals(index.getArchives().size(), index2.getArchives().size());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testLoadArchiveFiles() throws Exception
+	{
+		File file = folder.newFolder();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store store = new Store(new DiskStorage(file, true)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 64; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				archive.setFileData(fileData);
+				archive.setCompression(i % 3);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(("archive" + i).getBytes(), null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			List<Integer> ids = new ArrayList<>();
+			store.getStorage().loadArchiveFiles(index.getArchives(), executor, (archive, files) ->
+			{
+				ids.add(archive.getArchiveId());
+				assertEquals("archive" + archive.getArchiveId(), new String(files.getFiles().iterator().next().getContents()));
+			});
+
+			assertEquals(64, ids.size());
+			for (int i = 0; i < 64; ++i)
+			{
+				assertEquals(i, (int) ids.get(i));
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testLoadArchivesBounded() throws Exception
+	{
+		File file = folder.newFolder();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store store = new Store(new DiskStorage(file, true)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 32; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				Container container = new Container(0, -1);
+				container.compress(new byte[]{(byte) i}, null);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			AtomicInteger decoded = new AtomicInteger();
+			AtomicInteger maxInFlight = new AtomicInteger();
+			AtomicInteger consumed = new AtomicInteger();
+			store.getStorage().loadArchives(index.getArchives(), executor, 2, (archive, data) ->
+			{
+				// archives decoded but not yet consumed
+				int inFlight = decoded.incrementAndGet() - consumed.get();
+				maxInFlight.accumulateAndGet(inFlight, Math::max);
+				return archive.getArchiveId();
+			}, (archive, id) ->
+			{
+				assertEquals(archive.getArchiveId(), (int) id);
+				consumed.incrementAndGet();
+			});
+
+			assertEquals(32, consumed.get());
+			assertTrue(maxInFlight.get() <= 2);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
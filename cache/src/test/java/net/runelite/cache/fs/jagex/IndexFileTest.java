@@ -47,4 +47,18 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		File file = folder.newFile();
+		IndexFile index = new IndexFile(5, file, true);
+		Assert.assertEquals(0, index.getIndexCount());
+		IndexEntry entry = new IndexEntry(index, 7, 8, 9);
+		index.write(entry);
+		Assert.assertEquals(8, index.getIndexCount());
+		Assert.assertEquals(entry, index.read(7));
+		Assert.assertNull(index.read(8));
+		index.close();
+	}
 }
@@ -29,18 +29,16 @@ import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.cache.IndexType;
 import net.runelite.cache.ItemManager;
+import net.runelite.cache.ModelManager;
 import net.runelite.cache.SpriteManager;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.TextureManager;
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.ModelDefinition;
-import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.definitions.providers.ModelProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.CachingStorage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -61,7 +59,8 @@ public class ItemSpriteFactoryTest
 
 		int count = 0;
 
-		try (Store store = new Store(base))
+		CachingStorage storage = new CachingStorage(new DiskStorage(base), 64 * 1024 * 1024);
+		try (Store store = new Store(storage))
 		{
 			store.load();
 
@@ -69,19 +68,7 @@ public class ItemSpriteFactoryTest
 			itemManager.load();
 			itemManager.link();
 
-			ModelProvider modelProvider = new ModelProvider()
-			{
-				@Override
-				public ModelDefinition provide(int modelId) throws IOException
-				{
-					Index models = store.getIndex(IndexType.MODELS);
-					Archive archive = models.getArchive(modelId);
-
-					byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
-					ModelDefinition inventoryModel = new ModelLoader().load(modelId, data);
-					return inventoryModel;
-				}
-			};
+			ModelProvider modelProvider = new ModelManager(store);
 
 			SpriteManager spriteManager = new SpriteManager(store);
 			spriteManager.load();
@@ -114,6 +101,6 @@ public class ItemSpriteFactoryTest
 			}
 		}
 
-		log.info("Dumped {} item images to {}", count, outDir);
+		log.info("Dumped {} item images to {}, model cache {}", count, outDir, storage.getStats());
 	}
 }
\ No newline at end of file
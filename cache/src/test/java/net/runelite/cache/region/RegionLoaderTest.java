@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.SyntheticStore;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RegionLoaderTest
+{
+	private static final int[] KEY = {1, 2, 3, 4};
+	private static final int[] WRONG_KEY = {4, 3, 2, 1};
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testLoadRegionsParallel() throws IOException
+	{
+		int keyed = 50 << 8 | 50;
+		int unkeyed = 50 << 8 | 51;
+		int wrongKey = 51 << 8 | 50;
+
+		try (Store store = new Store(new DiskStorage(folder.getRoot(), true)))
+		{
+			new SyntheticStore(store, 42).addRegions(ImmutableMap.of(keyed, KEY, wrongKey, KEY), keyed, unkeyed, wrongKey);
+
+			Map<Integer, int[]> keys = ImmutableMap.of(keyed, KEY, wrongKey, WRONG_KEY);
+			RegionLoader serial = new RegionLoader(store, keys::get);
+			serial.loadRegions();
+
+			RegionLoader parallel = new RegionLoader(store, keys::get);
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try
+			{
+				parallel.loadRegions(executor);
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+
+			// the region which can't be decrypted is skipped by both
+			assertEquals(2, serial.getRegions().size());
+			assertEquals(2, parallel.getRegions().size());
+			assertFalse(serial.findRegionForRegionCoordinates(50, 50).getLocations().isEmpty());
+
+			for (Region expected : serial.getRegions())
+			{
+				Region actual = parallel.findRegionForRegionCoordinates(expected.getRegionX(), expected.getRegionY());
+				assertNotNull(actual);
+				assertEquals(expected.getLocations(), actual.getLocations());
+				for (int z = 0; z < Region.Z; ++z)
+				{
+					for (int x = 0; x < Region.X; ++x)
+					{
+						int[] expectedTiles = new int[Region.Y * 3];
+						int[] actualTiles = new int[Region.Y * 3];
+						for (int y = 0; y < Region.Y; ++y)
+						{
+							expectedTiles[y * 3] = expected.getTileHeight(z, x, y);
+							expectedTiles[y * 3 + 1] = expected.getUnderlayId(z, x, y);
+							expectedTiles[y * 3 + 2] = expected.getOverlayId(z, x, y);
+							actualTiles[y * 3] = actual.getTileHeight(z, x, y);
+							actualTiles[y * 3 + 1] = actual.getUnderlayId(z, x, y);
+							actualTiles[y * 3 + 2] = actual.getOverlayId(z, x, y);
+						}
+						assertArrayEquals(expectedTiles, actualTiles);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RegionManifestTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testChangedRegions() throws IOException
+	{
+		Index index = new Index(5);
+		addRegion(index, 50, 50, 1);
+		addRegion(index, 50, 51, 2);
+		addRegion(index, 51, 50, 3);
+
+		RegionManifest previous = RegionManifest.create(index);
+		assertEquals(ImmutableSet.of(50 << 8 | 50, 50 << 8 | 51, 51 << 8 | 50), previous.getRegions());
+
+		// round trip through a file
+		File file = folder.newFile();
+		previous.save(file);
+		previous = RegionManifest.load(file);
+
+		index = new Index(5);
+		addRegion(index, 50, 50, 1);
+		addRegion(index, 50, 51, 4);
+		addRegion(index, 52, 50, 5);
+
+		RegionManifest current = RegionManifest.create(index);
+		assertEquals(ImmutableSet.of(50 << 8 | 51, 51 << 8 | 50, 52 << 8 | 50), current.getChangedRegions(previous));
+		assertFalse(current.hasSameBounds(previous));
+		assertTrue(current.getChangedRegions(current).isEmpty());
+		assertTrue(current.hasSameBounds(current));
+	}
+
+	@Test
+	public void testOptions() throws IOException
+	{
+		Index index = new Index(5);
+		addRegion(index, 50, 50, 1);
+
+		RegionManifest previous = RegionManifest.create(index, ImmutableMap.of("scale", "4", "renderIcons", "true"));
+		File file = folder.newFile();
+		previous.save(file);
+		previous = RegionManifest.load(file);
+
+		assertTrue(RegionManifest.create(index, ImmutableMap.of("renderIcons", "true", "scale", "4")).hasSameOptions(previous));
+		assertFalse(RegionManifest.create(index, ImmutableMap.of("scale", "4", "renderIcons", "false")).hasSameOptions(previous));
+		assertTrue(RegionManifest.create(index, ImmutableMap.of("scale", "4", "renderIcons", "true")).getChangedRegions(previous).isEmpty());
+
+		// manifests written without options can't be trusted to match any options
+		Files.write(file.toPath(), "{\"12850\":{\"mapCrc\":1,\"mapRevision\":0,\"locationsCrc\":1,\"locationsRevision\":0}}".getBytes(StandardCharsets.UTF_8));
+		previous = RegionManifest.load(file);
+		assertFalse(RegionManifest.create(index).hasSameOptions(previous));
+		assertTrue(RegionManifest.create(index).getChangedRegions(previous).isEmpty());
+	}
+
+	@Test
+	public void testWithNeighbors()
+	{
+		Set<Integer> regions = RegionManifest.withNeighbors(ImmutableSet.of(50 << 8 | 50));
+		assertEquals(9, regions.size());
+		assertTrue(regions.contains(49 << 8 | 49));
+		assertTrue(regions.contains(51 << 8 | 51));
+
+		regions = RegionManifest.withNeighbors(ImmutableSet.of(0));
+		assertEquals(ImmutableSet.of(0, 1, 1 << 8, 1 << 8 | 1), regions);
+	}
+
+	private static void addRegion(Index index, int x, int y, int crc)
+	{
+		int id = index.getArchives().size();
+
+		Archive map = index.addArchive(id);
+		map.setNameHash(Djb2.hash("m" + x + "_" + y));
+		map.setCrc(crc);
+
+		Archive land = index.addArchive(id + 1);
+		land.setNameHash(Djb2.hash("l" + x + "_" + y));
+		land.setCrc(crc);
+	}
+}
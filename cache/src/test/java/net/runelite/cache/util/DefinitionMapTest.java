@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class DefinitionMapTest
+{
+	@Test
+	public void testPutGet()
+	{
+		DefinitionMap<String> map = new DefinitionMap<>(2);
+		assertNull(map.put(0, "a"));
+		assertNull(map.put(100, "b"));
+		assertEquals("a", map.put(0, "c"));
+
+		assertEquals("c", map.get(0));
+		assertEquals("b", map.get(100));
+		assertNull(map.get(50));
+		assertNull(map.get(-1));
+		assertNull(map.get(1000));
+		assertEquals(2, map.size());
+
+		map.put(100, null);
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testValues()
+	{
+		DefinitionMap<String> map = new DefinitionMap<>();
+		map.put(5, "b");
+		map.put(1, "a");
+		map.put(40, "c");
+
+		assertEquals(3, map.values().size());
+		assertEquals(ImmutableList.of("a", "b", "c"), new ArrayList<>(map.values()));
+
+		map.clear();
+		assertEquals(0, map.size());
+		assertEquals(ImmutableList.of(), new ArrayList<>(map.values()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeId()
+	{
+		new DefinitionMap<String>().put(-1, "a");
+	}
+}
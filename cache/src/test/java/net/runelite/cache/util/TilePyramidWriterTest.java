@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import net.runelite.cache.StoreLocation;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TilePyramidWriterTest
+{
+	private static final int TILE_SIZE = 8;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testZoomLevels()
+	{
+		assertEquals(1, TilePyramidWriter.zoomLevelsFor(1, 1));
+		assertEquals(2, TilePyramidWriter.zoomLevelsFor(2, 1));
+		assertEquals(3, TilePyramidWriter.zoomLevelsFor(3, 4));
+		assertEquals(4, TilePyramidWriter.zoomLevelsFor(5, 2));
+	}
+
+	@Test
+	public void testWrite() throws IOException
+	{
+		File dir = folder.newFolder();
+		TilePyramidWriter writer = new TilePyramidWriter(dir, TILE_SIZE, BufferedImage.TYPE_INT_RGB, 3, MoreExecutors.directExecutor());
+
+		// 3x3 tiles, missing the center one
+		for (int y = 0; y < 3; ++y)
+		{
+			for (int x = 0; x < 3; ++x)
+			{
+				if (x != 1 || y != 1)
+				{
+					writer.writeTile(x, y, tile(0x10 * (y * 3 + x + 1)));
+				}
+			}
+		}
+		writer.finish();
+
+		for (int y = 0; y < 3; ++y)
+		{
+			for (int x = 0; x < 3; ++x)
+			{
+				assertEquals(x != 1 || y != 1, new File(dir, "2/" + x + "/" + y + ".png").exists());
+			}
+		}
+
+		assertTrue(new File(dir, "1/0/0.png").exists());
+		assertTrue(new File(dir, "1/1/0.png").exists());
+		assertTrue(new File(dir, "1/0/1.png").exists());
+		assertTrue(new File(dir, "1/1/1.png").exists());
+		assertFalse(new File(dir, "1/2/0.png").exists());
+		assertFalse(new File(dir, "0/1/0.png").exists());
+
+		BufferedImage parent = ImageIO.read(new File(dir, "1/0/0.png"));
+		assertEquals(TILE_SIZE, parent.getWidth());
+		assertEquals(0x10, parent.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(0x20, parent.getRGB(TILE_SIZE - 1, 0) & 0xFFFFFF);
+		assertEquals(0x40, parent.getRGB(0, TILE_SIZE - 1) & 0xFFFFFF);
+		assertEquals(0, parent.getRGB(TILE_SIZE - 1, TILE_SIZE - 1) & 0xFFFFFF);
+
+		BufferedImage root = ImageIO.read(new File(dir, "0/0/0.png"));
+		assertEquals(TILE_SIZE, root.getWidth());
+		assertEquals(0x10, root.getRGB(0, 0) & 0xFFFFFF);
+	}
+
+	@Test
+	public void testReplace() throws IOException
+	{
+		File dir = folder.newFolder();
+		TilePyramidWriter writer = new TilePyramidWriter(dir, TILE_SIZE, BufferedImage.TYPE_INT_RGB, 3, MoreExecutors.directExecutor());
+		for (int y = 0; y < 3; ++y)
+		{
+			for (int x = 0; x < 3; ++x)
+			{
+				writer.writeTile(x, y, tile(0x10));
+			}
+		}
+		writer.finish();
+
+		writer = new TilePyramidWriter(dir, TILE_SIZE, BufferedImage.TYPE_INT_RGB, 3, MoreExecutors.directExecutor());
+		writer.replaceTile(0, 0, tile(0x80));
+		writer.replaceTile(2, 2, null);
+		writer.finish();
+
+		assertEquals(0x80, ImageIO.read(new File(dir, "2/0/0.png")).getRGB(0, 0) & 0xFFFFFF);
+		assertFalse(new File(dir, "2/2/2.png").exists());
+		// the parent of only the removed tile is removed too
+		assertFalse(new File(dir, "1/1/1.png").exists());
+
+		BufferedImage parent = ImageIO.read(new File(dir, "1/0/0.png"));
+		assertEquals(0x80, parent.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(0x10, parent.getRGB(TILE_SIZE - 1, TILE_SIZE - 1) & 0xFFFFFF);
+
+		BufferedImage root = ImageIO.read(new File(dir, "0/0/0.png"));
+		assertEquals(0x80, root.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(0, root.getRGB(TILE_SIZE - 1, TILE_SIZE - 1) & 0xFFFFFF);
+	}
+
+	private static BufferedImage tile(int rgb)
+	{
+		BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < TILE_SIZE; ++y)
+		{
+			for (int x = 0; x < TILE_SIZE; ++x)
+			{
+				image.setRGB(x, y, rgb);
+			}
+		}
+		return image;
+	}
+}
@@ -172,6 +172,7 @@ public class RuneLite
 		parser.accepts("developer-mode", "Enable developer tools");
 		parser.accepts("debug", "Show extra debugging output");
 		parser.accepts("safe-mode", "Disables external plugins and the GPU plugin");
+		parser.accepts("parallel-plugin-loading", "Instantiate independent plugins in parallel and start plugins in batches");
 		parser.accepts("insecure-skip-tls-verification", "Disables TLS verification");
 		parser.accepts("jav_config", "jav_config url")
 			.withRequiredArg()
@@ -261,6 +262,7 @@ public class RuneLite
 				runtimeConfigLoader,
 				developerMode,
 				options.has("safe-mode"),
+				options.has("parallel-plugin-loading"),
 				options.has("disable-telemetry"),
 				options.valueOf(sessionfile),
 				(String) options.valueOf("profile"),
@@ -37,8 +37,8 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.function.Supplier;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -56,6 +56,7 @@ import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.task.Scheduler;
+import net.runelite.client.task.TaskExecutor;
 import net.runelite.client.util.DeferredEventBus;
 import net.runelite.client.util.ExecutorServiceExceptionLogger;
 import net.runelite.http.api.RuneLiteAPI;
@@ -70,6 +71,7 @@ public class RuneLiteModule extends AbstractModule
 	private final RuntimeConfigLoader configLoader;
 	private final boolean developerMode;
 	private final boolean safeMode;
+	private final boolean parallelPluginLoading;
 	private final boolean disableTelemetry;
 	private final File sessionfile;
 	private final String profile;
@@ -118,13 +120,18 @@ public class RuneLiteModule extends AbstractModule
 
 		bindConstant().annotatedWith(Names.named("developerMode")).to(developerMode);
 		bindConstant().annotatedWith(Names.named("safeMode")).to(safeMode);
+		bindConstant().annotatedWith(Names.named("parallelPluginLoading")).to(parallelPluginLoading);
 		bindConstant().annotatedWith(Names.named("disableTelemetry")).to(disableTelemetry);
 		bind(File.class).annotatedWith(Names.named("sessionfile")).toInstance(sessionfile);
 		bind(String.class).annotatedWith(Names.named("profile")).toProvider(Providers.of(profile));
 		bindConstant().annotatedWith(Names.named("insecureWriteCredentials")).to(insecureWriteCredentials);
 		bindConstant().annotatedWith(Names.named("noupdate")).to(noupdate);
 		bind(File.class).annotatedWith(Names.named("runeLiteDir")).toInstance(RuneLite.RUNELITE_DIR);
-		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor()));
+
+		ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1);
+		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(timer));
+		bind(TaskExecutor.class).toInstance(new TaskExecutor(timer));
+
 		bind(OkHttpClient.class).toInstance(okHttpClient);
 		bind(RuntimeConfigLoader.class).toInstance(configLoader);
 		bind(RuntimeConfigRefresher.class).asEagerSingleton();
@@ -24,6 +24,10 @@
  */
 package net.runelite.client.config;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,48 +35,53 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class ConfigData
 {
+	private static final int JOURNAL_SET = 0;
+	private static final int JOURNAL_UNSET = 1;
+	// file locks can't be waited on by multiple threads of the same jvm, so threads wait on this first
+	private static final Object FILE_LOCK = new Object();
+
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// kept sorted alongside the properties, so keys sharing a prefix can be listed without scanning every key
+	private final ConcurrentSkipListSet<String> sortedKeys = new ConcurrentSkipListSet<>();
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
 	{
 		this.configPath = configPath;
 
-		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
-		{
-		}
-		catch (Exception ex)
-		{
-			throw new RuntimeException(ex);
-		}
+		// merge changes journaled by this or another client since the last compaction
+		compact(configPath, null);
 
+		Properties props = loadProperties(configPath);
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		sortedKeys.addAll(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +92,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +108,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +118,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +126,23 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Gets the keys which start with the given prefix, in sorted order
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		final List<String> keys = new ArrayList<>();
+		for (String key : sortedKeys.tailSet(prefix))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -128,77 +160,293 @@ class ConfigData
 		return p;
 	}
 
+	/**
+	 * Persists a patch by appending it to the journal. The journal is merged into the properties file by
+	 * {@link #compact()}, or when the config is next loaded.
+	 *
+	 * @param patch changed keys, with null values for unset keys
+	 */
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
-		// multiple clients editing one config data (such as rs profile config) get their data merged
-		// correctly
-
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+		if (patch.isEmpty())
 		{
-			lckChannel.lock();
+			return;
+		}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-			{
-				tempProps.load(reader);
-			}
-			catch (FileNotFoundException e)
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes))
+		{
+			for (Map.Entry<String, String> entry : patch.entrySet())
 			{
-				log.debug("config file {} does not exist", configPath);
+				out.writeByte(entry.getValue() == null ? JOURNAL_UNSET : JOURNAL_SET);
+				writeString(out, entry.getKey());
+				if (entry.getValue() != null)
+				{
+					writeString(out, entry.getValue());
+				}
 			}
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
 
-			if (tempProps.isEmpty())
-			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
-			}
-			else
+		synchronized (FILE_LOCK)
+		{
+			final File journalPath = journalFile(configPath);
+			final File lckFile = lockFile(configPath);
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				lckChannel.lock();
+
+				try (FileOutputStream out = new FileOutputStream(journalPath, true);
+					FileChannel channel = out.getChannel())
 				{
-					if (entry.getValue() == null)
+					final long size = channel.size();
+					try
 					{
-						tempProps.remove(entry.getKey());
+						final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+						while (buffer.hasRemaining())
+						{
+							channel.write(buffer);
+						}
+						channel.force(false);
 					}
-					else
+					catch (IOException ex)
 					{
-						tempProps.put(entry.getKey(), entry.getValue());
+						// don't leave a partial patch for later patches to be appended after
+						channel.truncate(size);
+						throw ex;
 					}
 				}
 			}
-
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+			catch (IOException ex)
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				log.error("unable to save configuration journal", ex);
 			}
+			lckFile.delete();
+		}
+	}
+
+	/**
+	 * Merges the journal into the properties file
+	 */
+	void compact()
+	{
+		compact(configPath, properties);
+	}
+
+	/**
+	 * Merges the journal of a config file into the file, so the file can be read or copied directly
+	 *
+	 * @param configPath the properties file
+	 */
+	static void compact(File configPath)
+	{
+		compact(configPath, null);
+	}
+
+	/**
+	 * Deletes a config file along with its journal
+	 *
+	 * @param configPath the properties file
+	 */
+	static void delete(File configPath)
+	{
+		configPath.delete();
+		journalFile(configPath).delete();
+	}
+
+	private static void compact(File configPath, @Nullable Map<String, String> current)
+	{
+		final File journalPath = journalFile(configPath);
+		if (!journalPath.exists())
+		{
+			return;
+		}
+
+		// load + patch + store instead of just flushing the in-memory properties to disk so that
+		// multiple clients editing one config data (such as rs profile config) get their data merged
+		// correctly
+
+		synchronized (FILE_LOCK)
+		{
+			File lckFile = lockFile(configPath);
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
+			{
+				lckChannel.lock();
+
+				// another client may have compacted the journal while we were waiting for the lock
+				if (!journalPath.exists())
+				{
+					return;
+				}
+
+				Properties tempProps = loadProperties(configPath);
+				final Map<String, String> patch = new LinkedHashMap<>();
+				final boolean intact = readJournal(journalPath, patch);
+
+				if (tempProps.isEmpty() && current != null)
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					tempProps.putAll(current);
+				}
+				else
+				{
+					// apply patches
+					for (Map.Entry<String, String> entry : patch.entrySet())
+					{
+						if (entry.getValue() == null)
+						{
+							tempProps.remove(entry.getKey());
+						}
+						else
+						{
+							tempProps.put(entry.getKey(), entry.getValue());
+						}
+					}
+				}
+
+				File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+				try (FileOutputStream out = new FileOutputStream(tempFile);
+					FileChannel channel = out.getChannel();
+					OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+				{
+					channel.lock();
+					tempProps.store(writer, "RuneLite configuration");
+					writer.flush();
+					channel.force(true);
+				}
 
-			try
+				try
+				{
+					Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex)
+				{
+					log.debug("atomic move not supported", ex);
+					Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+
+				if (intact)
+				{
+					journalPath.delete();
+				}
+				else
+				{
+					// keep the unreadable part of the journal around instead of discarding it
+					File corruptPath = new File(journalPath.getParentFile(), journalPath.getName() + ".corrupt");
+					Files.move(journalPath.toPath(), corruptPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					log.warn("moved damaged configuration journal to {}", corruptPath);
+				}
+			}
+			catch (IOException ex)
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				log.error("unable to save configuration file", ex);
 			}
-			catch (AtomicMoveNotSupportedException ex)
+			finally
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				lckFile.delete();
 			}
 		}
+	}
+
+	private static Properties loadProperties(File configPath)
+	{
+		Properties props = new Properties();
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
 		catch (IOException ex)
 		{
-			log.error("unable to save configuration file", ex);
+			throw new UncheckedIOException(ex);
+		}
+		return props;
+	}
+
+	/**
+	 * Reads the patches in a journal
+	 *
+	 * @param journalPath the journal
+	 * @param patch map to put the patched keys into, with null values for unset keys
+	 * @return false if the journal ends in a partial or corrupt patch, which is not read
+	 */
+	private static boolean readJournal(File journalPath, Map<String, String> patch) throws IOException
+	{
+		// journals are merged on every save, so are small enough to read at once. This also bounds
+		// the string lengths read from it by the file size.
+		final byte[] journal = Files.readAllBytes(journalPath.toPath());
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(journal));
+		while (in.available() > 0)
+		{
+			final int op = in.readByte();
+			if (op != JOURNAL_SET && op != JOURNAL_UNSET)
+			{
+				log.warn("corrupt configuration journal {}, ignoring remaining entries", journalPath);
+				return false;
+			}
+
+			final String key = readString(in);
+			final String value = op == JOURNAL_SET ? readString(in) : null;
+			if (key == null || (op == JOURNAL_SET && value == null))
+			{
+				// the last patch was only partially written, eg. the client crashed while saving
+				log.warn("truncated configuration journal {}, ignoring remaining entries", journalPath);
+				return false;
+			}
+			patch.put(key, value);
 		}
-		lckFile.delete();
+		return true;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		final byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}
+	 *
+	 * @return the string, or null if its length runs past the end of the input
+	 */
+	@Nullable
+	private static String readString(DataInputStream in) throws IOException
+	{
+		if (in.available() < 4)
+		{
+			return null;
+		}
+
+		final int length = in.readInt();
+		if (length < 0 || length > in.available())
+		{
+			return null;
+		}
+
+		final byte[] b = new byte[length];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	private static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	private static File lockFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".lck");
 	}
 }
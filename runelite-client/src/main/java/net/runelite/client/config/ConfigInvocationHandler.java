@@ -24,11 +24,15 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -38,10 +42,74 @@ class ConfigInvocationHandler implements InvocationHandler
 	// Special object to represent null values in the cache
 	private static final Object NULL = new Object();
 
+	/**
+	 * Cached values of the config items of one config interface
+	 */
+	private static class ConfigCache
+	{
+		private final String group;
+		private final Map<Method, Integer> slots = new HashMap<>();
+		private final String[] keyNames;
+		private final AtomicReferenceArray<Object> values;
+
+		ConfigCache(Class<?> iface)
+		{
+			final ConfigGroup configGroup = iface.getAnnotation(ConfigGroup.class);
+			group = configGroup != null ? configGroup.value() : null;
+
+			final List<String> keys = new ArrayList<>();
+			for (Method method : iface.getMethods())
+			{
+				final ConfigItem item = method.getAnnotation(ConfigItem.class);
+				if (item != null && method.getParameterCount() == 0)
+				{
+					slots.put(method, keys.size());
+					keys.add(item.keyName());
+				}
+			}
+
+			keyNames = keys.toArray(new String[0]);
+			values = new AtomicReferenceArray<>(keyNames.length);
+		}
+
+		Object get(Method method)
+		{
+			final Integer slot = slots.get(method);
+			return slot != null ? values.get(slot) : null;
+		}
+
+		void put(Method method, Object value)
+		{
+			final Integer slot = slots.get(method);
+			if (slot != null)
+			{
+				values.set(slot, value);
+			}
+		}
+
+		void invalidate(String keyName)
+		{
+			for (int i = 0; i < keyNames.length; ++i)
+			{
+				if (keyNames[i].equals(keyName))
+				{
+					values.set(i, null);
+				}
+			}
+		}
+
+		void invalidateAll()
+		{
+			for (int i = 0; i < keyNames.length; ++i)
+			{
+				values.set(i, null);
+			}
+		}
+	}
+
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	// keyed by proxy class, which there is one of per config interface
+	private final Map<Class<?>, ConfigCache> caches = new ConcurrentHashMap<>();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -51,10 +119,12 @@ class ConfigInvocationHandler implements InvocationHandler
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
+		final ConfigCache cache = caches.computeIfAbsent(proxy.getClass(), c -> new ConfigCache(c.getInterfaces()[0]));
+
 		// Use cached configuration value if available
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
+			Object cachedValue = cache.get(method);
 			if (cachedValue != null)
 			{
 				return cachedValue == NULL ? null : cachedValue;
@@ -95,7 +165,7 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			log.trace("cache miss (group: {}, key: {})", group.value(), item.keyName());
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -187,6 +257,24 @@ class ConfigInvocationHandler implements InvocationHandler
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		for (ConfigCache cache : caches.values())
+		{
+			cache.invalidateAll();
+		}
+	}
+
+	/**
+	 * Invalidates the cached value of a single config item in every config interface of the group
+	 */
+	void invalidate(String groupName, String keyName)
+	{
+		log.trace("cache invalidate (group: {}, key: {})", groupName, keyName);
+		for (ConfigCache cache : caches.values())
+		{
+			if (groupName.equals(cache.group))
+			{
+				cache.invalidate(keyName);
+			}
+		}
 	}
 }
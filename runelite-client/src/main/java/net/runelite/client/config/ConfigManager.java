@@ -54,7 +54,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -85,6 +86,7 @@ import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
 import net.runelite.client.util.ColorUtil;
+import net.runelite.client.util.ExecutorServiceExceptionLogger;
 import net.runelite.client.util.RunnableExceptionLogger;
 import net.runelite.http.api.config.ConfigPatch;
 import net.runelite.http.api.config.ConfigPatchResult;
@@ -120,6 +122,22 @@ public class ConfigManager
 
 	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
 
+	/**
+	 * Executor for compacting config journals and applying remote patch results, so neither blocks
+	 * the callers of {@link #sendConfig()}
+	 */
+	private final ScheduledExecutorService configExecutor = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor(r ->
+	{
+		Thread thread = new Thread(r, "Config Writer");
+		thread.setDaemon(true);
+		return thread;
+	}));
+
+	/**
+	 * Completes when all of the queued remote patches have been applied
+	 */
+	private CompletableFuture<Void> remoteSync = CompletableFuture.completedFuture(null);
+
 	@Getter
 	private ConfigProfile profile;
 	private ConfigProfile rsProfile;
@@ -455,7 +473,7 @@ public class ConfigManager
 		configData.patch(configData.swapChanges());
 
 		rsProfile = updateProfile(lock, rsProfile);
-		saveConfiguration(lock, rsProfile, rsProfileConfigProfile);
+		saveConfiguration(rsProfile, rsProfileConfigProfile);
 
 		log.info("Finished importing {} keys", keys);
 	}
@@ -734,7 +752,7 @@ public class ConfigManager
 
 				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
-				configFile.delete();
+				ConfigData.delete(configFile);
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -768,9 +786,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -783,8 +799,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keysWithPrefix(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -887,7 +902,7 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		invalidate(groupName, profile, key);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -899,6 +914,15 @@ public class ConfigManager
 		eventBus.post(configChanged);
 	}
 
+	private void invalidate(String groupName, String profile, String key)
+	{
+		// config proxies only read the non-rsprofile configuration
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
+	}
+
 	public void setConfiguration(String groupName, String profile, String key, @NonNull String value)
 	{
 		if (profile != null)
@@ -979,7 +1003,7 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		invalidate(groupName, profile, key);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1346,6 +1370,7 @@ public class ConfigManager
 	private void onClientShutdown(ClientShutdown e)
 	{
 		sendConfig();
+		e.waitFor(getRemoteSync());
 	}
 
 	public void sendConfig()
@@ -1359,8 +1384,8 @@ public class ConfigManager
 			profile = updateProfile(lock, profile);
 			rsProfile = updateProfile(lock, rsProfile);
 
-			saveConfiguration(lock, profile, configProfile);
-			saveConfiguration(lock, rsProfile, rsProfileConfigProfile);
+			saveConfiguration(profile, configProfile);
+			saveConfiguration(rsProfile, rsProfileConfigProfile);
 		}
 	}
 
@@ -1384,7 +1409,7 @@ public class ConfigManager
 		return p;
 	}
 
-	private void saveConfiguration(ProfileManager.Lock lock, ConfigProfile profile, ConfigData data)
+	private void saveConfiguration(ConfigProfile profile, ConfigData data)
 	{
 		Map<String, String> patch = data.swapChanges();
 
@@ -1395,44 +1420,88 @@ public class ConfigManager
 
 		log.debug("Saving profile {} (patch size: {})", profile.getName(), patch.size());
 
+		// journaling the patch is cheap and makes it durable; the properties file is rewritten later
+		data.patch(patch);
+		configExecutor.execute(data::compact);
+
 		if (profile.isSync() && sessionManager.getAccountSession() != null)
 		{
-			try
+			queueRemotePatch(profile.getId(), buildConfigPatch(profile.isInternal() ? profile.getName() : null, patch));
+		}
+	}
+
+	private synchronized void queueRemotePatch(long profileId, ConfigPatch patch)
+	{
+		// patches are sent one at a time, so that their revisions are checked in the order they are applied
+		remoteSync = remoteSync
+			.thenCompose(v -> configClient.patch(patch, profileId)
+				.handleAsync((result, ex) ->
+				{
+					applyPatchResult(profileId, result, ex);
+					return (Void) null;
+				}, configExecutor))
+			.exceptionally(ex ->
+			{
+				log.error("error applying incremental patch", ex);
+				return null;
+			});
+	}
+
+	private synchronized CompletableFuture<Void> getRemoteSync()
+	{
+		return remoteSync;
+	}
+
+	private void applyPatchResult(long profileId, ConfigPatchResult patchResult, Throwable error)
+	{
+		try (ProfileManager.Lock lock = profileManager.lock())
+		{
+			ConfigProfile profile = lock.findProfile(profileId);
+			if (profile == null)
+			{
+				log.debug("profile {} was removed before its patch was applied", profileId);
+				return;
+			}
+
+			if (error != null)
+			{
+				profile.setRev(-1L);
+				log.error("error applying incremental patch", error);
+			}
+			else if (patchResult == null)
+			{
+				profile.setRev(-1L);
+			}
+			else
 			{
-				ConfigPatchResult patchResult = configClient.patch(buildConfigPatch(profile.isInternal() ? profile.getName() : null, patch), profile.getId()).get();
-				if (patchResult == null)
+				long oldRev = patchResult.getRev() - 1;
+				long newRev = patchResult.getRev();
+
+				if (oldRev == profile.getRev())
 				{
-					profile.setRev(-1L);
+					profile.setRev(newRev);
+					log.debug("incremental patch applied {} -> {}", oldRev, newRev);
 				}
 				else
 				{
-					long oldRev = patchResult.getRev() - 1;
-					long newRev = patchResult.getRev();
-
-					if (oldRev == profile.getRev())
-					{
-						profile.setRev(newRev);
-						log.debug("incremental patch applied {} -> {}", oldRev, newRev);
-					}
-					else
-					{
-						// version on disk now mismatches the remote config. Set rev as -1 to force a reload
-						// on next start.
-						log.debug("rev mismatch {} != {}, invalidating", oldRev, newRev);
-						profile.setRev(-1L);
-					}
+					// version on disk now mismatches the remote config. Set rev as -1 to force a reload
+					// on next start.
+					log.debug("rev mismatch {} != {}, invalidating", oldRev, newRev);
+					profile.setRev(-1L);
 				}
-				lock.dirty();
-			}
-			catch (ExecutionException | InterruptedException e)
-			{
-				profile.setRev(-1L);
-				lock.dirty();
-				log.error("error applying incremental patch", e);
 			}
+			lock.dirty();
 		}
+	}
 
-		data.patch(patch);
+	/**
+	 * Merges any journaled changes of a profile into its properties file, so the file can be copied
+	 *
+	 * @param profile the profile
+	 */
+	public void flushProfile(ConfigProfile profile)
+	{
+		ConfigData.compact(ProfileManager.profileConfigFile(profile));
 	}
 
 	private static ConfigPatch buildConfigPatch(@Nullable String profileName, Map<String, String> patchChanges)
@@ -1460,13 +1529,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -41,6 +41,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -59,6 +60,9 @@ public class ProfileManager
 
 	private final Gson gson;
 
+	// file locks can't be waited on by multiple threads of the same jvm, so threads wait on this first
+	private final ReentrantLock threadLock = new ReentrantLock();
+
 	static
 	{
 		PROFILES_DIR.mkdirs();
@@ -75,11 +79,20 @@ public class ProfileManager
 		@SneakyThrows
 		public Lock()
 		{
-			lockFile = new File(PROFILES_DIR, "profiles.lck");
-			lockOut = new FileOutputStream(lockFile);
-			lockChannel = lockOut.getChannel();
-			lockChannel.lock();
-			profiles = new ArrayList<>(load());
+			threadLock.lock();
+			try
+			{
+				lockFile = new File(PROFILES_DIR, "profiles.lck");
+				lockOut = new FileOutputStream(lockFile);
+				lockChannel = lockOut.getChannel();
+				lockChannel.lock();
+				profiles = new ArrayList<>(load());
+			}
+			catch (Throwable t)
+			{
+				threadLock.unlock();
+				throw t;
+			}
 		}
 
 		private List<ConfigProfile> load()
@@ -104,35 +117,42 @@ public class ProfileManager
 		@SneakyThrows
 		public void close()
 		{
-			if (modified)
+			try
 			{
-				log.debug("saving {} profiles", profiles.size());
-
-				File tempFile = File.createTempFile("runelite_profiles", null, PROFILES_DIR);
-				try (FileOutputStream out = new FileOutputStream(tempFile);
-					FileChannel channel = lockOut.getChannel();
-					OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+				if (modified)
 				{
-					Profiles profilesData = new Profiles();
-					profilesData.setProfiles(profiles);
-					gson.toJson(profilesData, writer);
-					writer.flush();
-					channel.force(true);
-				}
+					log.debug("saving {} profiles", profiles.size());
 
-				try
-				{
-					Files.move(tempFile.toPath(), PROFILES.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-				}
-				catch (AtomicMoveNotSupportedException ex)
-				{
-					log.debug("atomic move not supported", ex);
-					Files.move(tempFile.toPath(), PROFILES.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					File tempFile = File.createTempFile("runelite_profiles", null, PROFILES_DIR);
+					try (FileOutputStream out = new FileOutputStream(tempFile);
+						FileChannel channel = lockOut.getChannel();
+						OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+					{
+						Profiles profilesData = new Profiles();
+						profilesData.setProfiles(profiles);
+						gson.toJson(profilesData, writer);
+						writer.flush();
+						channel.force(true);
+					}
+
+					try
+					{
+						Files.move(tempFile.toPath(), PROFILES.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					}
+					catch (AtomicMoveNotSupportedException ex)
+					{
+						log.debug("atomic move not supported", ex);
+						Files.move(tempFile.toPath(), PROFILES.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					}
 				}
-			}
 
-			lockOut.close();
-			lockFile.delete();
+				lockOut.close();
+				lockFile.delete();
+			}
+			finally
+			{
+				threadLock.unlock();
+			}
 		}
 
 		public List<ConfigProfile> getProfiles()
@@ -199,6 +219,9 @@ public class ProfileManager
 			modified = true;
 			File newFile = profileConfigFile(profile);
 
+			// move any journaled changes into the file being renamed
+			ConfigData.compact(oldFile);
+
 			if (!oldFile.exists())
 			{
 				// no config file is valid if the profile hasn't been used yet.
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,10 +33,18 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
@@ -53,16 +59,27 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
 	public static class Subscriber
 	{
 		private final Object object;
 		private final Method method;
 		private final float priority;
 		@EqualsAndHashCode.Exclude
+		private final Class<?> eventType;
+		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
 
+		public Subscriber(Object object, Method method, float priority, Consumer<Object> lambda)
+		{
+			this(object, method, priority, method != null ? method.getParameterTypes()[0] : null, lambda);
+		}
+
 		void invoke(final Object arg) throws Exception
 		{
 			if (lambda != null)
@@ -78,8 +95,26 @@ public class EventBus
 
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Subscribers of each event type, ordered by priority then their declaring class' name. The arrays
+	 * are never modified, registering and unregistering replaces the arrays of the affected event types.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Subscribers registered by each object, to unregister them without searching every event type
+	 */
+	private final Map<Object, List<Subscriber>> subscribersByObject = new IdentityHashMap<>();
+
+	/**
+	 * Profiler recording subscriber timings, or null if profiling is disabled
+	 */
+	private volatile EventProfiler activeProfiler;
+
+	/**
+	 * The most recent profiler, kept after profiling is disabled so its results can still be read
+	 */
+	private EventProfiler profiler;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +133,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Subscriber> registered = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -158,27 +190,23 @@ public class EventBus
 					log.warn("Unable to create lambda for method {}", method, e);
 				}
 
-				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), parameterClazz, lambda);
+				registered.add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		// only add the subscribers once all of the methods are validated
+		for (Subscriber subscriber : registered)
+		{
+			add(subscriber);
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
-		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
-
+		Subscriber sub = new Subscriber(subFn, null, priority, clazz, (Consumer<Object>) subFn);
+		add(sub);
 		return sub;
 	}
 
@@ -189,10 +217,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final List<Subscriber> registered = subscribersByObject.remove(object);
+		if (registered == null)
+		{
+			return;
+		}
+
+		for (Subscriber subscriber : registered)
+		{
+			removeFromEventType(subscriber);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +236,18 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final List<Subscriber> registered = subscribersByObject.get(sub.getObject());
+		if (registered == null || !registered.removeIf(s -> s == sub))
+		{
+			return;
+		}
+
+		if (registered.isEmpty())
+		{
+			subscribersByObject.remove(sub.getObject());
+		}
+
+		removeFromEventType(sub);
 	}
 
 	/**
@@ -216,7 +258,15 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.getOrDefault(event.getClass(), EMPTY);
+		final EventProfiler active = activeProfiler;
+		if (active != null)
+		{
+			postProfiled(active, subs, event);
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
 		{
 			try
 			{
@@ -228,4 +278,130 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postProfiled(final EventProfiler profiler, final Subscriber[] subs, final Object event)
+	{
+		for (final Subscriber subscriber : subs)
+		{
+			try
+			{
+				profiler.invoke(subscriber, event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+		}
+	}
+
+	/**
+	 * Enables or disables recording the call count and time spent in each subscriber. Enabling profiling
+	 * discards any previously recorded results.
+	 *
+	 * @param enabled whether to profile subscribers
+	 * @param trackAllocations whether to also record the bytes allocated by each subscriber, if supported by the JVM
+	 */
+	public synchronized void setProfiling(boolean enabled, boolean trackAllocations)
+	{
+		if (activeProfiler != null)
+		{
+			activeProfiler.stop();
+		}
+
+		if (enabled)
+		{
+			profiler = new EventProfiler(trackAllocations);
+			activeProfiler = profiler;
+		}
+		else
+		{
+			activeProfiler = null;
+		}
+	}
+
+	public boolean isProfiling()
+	{
+		return activeProfiler != null;
+	}
+
+	/**
+	 * Gets the results of the current or most recent profiling session, ordered by total time spent descending
+	 *
+	 * @return the recorded subscribers
+	 */
+	public synchronized List<SubscriberProfile> getProfile()
+	{
+		return profiler != null ? profiler.snapshot() : Collections.emptyList();
+	}
+
+	/**
+	 * Discards the results recorded so far, without changing whether profiling is enabled
+	 */
+	public synchronized void resetProfile()
+	{
+		if (profiler != null)
+		{
+			profiler.reset();
+		}
+	}
+
+	private void add(Subscriber subscriber)
+	{
+		subscribersByObject.computeIfAbsent(subscriber.getObject(), k -> new ArrayList<>()).add(subscriber);
+
+		final Subscriber[] current = subscribers.getOrDefault(subscriber.getEventType(), EMPTY);
+
+		// insert after any subscribers which compare equal, to keep registration order between them
+		int idx = current.length;
+		while (idx > 0 && ORDER.compare(current[idx - 1], subscriber) > 0)
+		{
+			--idx;
+		}
+
+		final Subscriber[] updated = new Subscriber[current.length + 1];
+		System.arraycopy(current, 0, updated, 0, idx);
+		updated[idx] = subscriber;
+		System.arraycopy(current, idx, updated, idx + 1, current.length - idx);
+		subscribers.put(subscriber.getEventType(), updated);
+	}
+
+	private void removeFromEventType(Subscriber subscriber)
+	{
+		if (profiler != null)
+		{
+			profiler.remove(subscriber);
+		}
+
+		final Subscriber[] current = subscribers.get(subscriber.getEventType());
+		if (current == null)
+		{
+			return;
+		}
+
+		int idx = -1;
+		for (int i = 0; i < current.length; ++i)
+		{
+			if (current[i] == subscriber)
+			{
+				idx = i;
+				break;
+			}
+		}
+
+		if (idx == -1)
+		{
+			return;
+		}
+
+		if (current.length == 1)
+		{
+			subscribers.remove(subscriber.getEventType());
+			return;
+		}
+
+		final Subscriber[] updated = new Subscriber[current.length - 1];
+		System.arraycopy(current, 0, updated, 0, idx);
+		System.arraycopy(current, idx + 1, updated, idx, current.length - idx - 1);
+		subscribers.put(subscriber.getEventType(), updated);
+	}
 }
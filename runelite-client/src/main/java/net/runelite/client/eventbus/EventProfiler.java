@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class EventProfiler
+{
+	private static class Stats
+	{
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder allocatedBytes = new LongAdder();
+	}
+
+	/**
+	 * Stats of each subscriber. Subscribers are compared by identity, since their equals and hashCode
+	 * depend on the subscribing object, which is not required to be immutable.
+	 */
+	private final Map<EventBus.Subscriber, Stats> stats = Collections.synchronizedMap(new IdentityHashMap<>());
+	private final com.sun.management.ThreadMXBean threadMXBean;
+	/**
+	 * Whether the JVM was tracking thread allocations before profiling, which is restored when profiling stops
+	 */
+	private final boolean allocationTrackingEnabled;
+
+	EventProfiler(boolean trackAllocations)
+	{
+		threadMXBean = trackAllocations ? allocationMXBean() : null;
+		allocationTrackingEnabled = threadMXBean != null && threadMXBean.isThreadAllocatedMemoryEnabled();
+		if (threadMXBean != null)
+		{
+			threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+
+	private static com.sun.management.ThreadMXBean allocationMXBean()
+	{
+		final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+		{
+			log.debug("Thread allocation tracking is not supported");
+			return null;
+		}
+
+		final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+		if (!sunBean.isThreadAllocatedMemorySupported())
+		{
+			log.debug("Thread allocation tracking is not supported");
+			return null;
+		}
+
+		return sunBean;
+	}
+
+	void invoke(EventBus.Subscriber subscriber, Object event) throws Exception
+	{
+		final long threadId = threadMXBean != null ? Thread.currentThread().getId() : 0L;
+		final long startBytes = threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(threadId) : 0L;
+		final long start = System.nanoTime();
+		try
+		{
+			subscriber.invoke(event);
+		}
+		finally
+		{
+			final long elapsed = System.nanoTime() - start;
+			final Stats s = stats.computeIfAbsent(subscriber, k -> new Stats());
+			s.calls.increment();
+			s.totalNanos.add(elapsed);
+			s.maxNanos.accumulate(elapsed);
+			if (threadMXBean != null)
+			{
+				// -1 if tracking was disabled by stop() during the call
+				final long endBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+				if (startBytes >= 0 && endBytes >= 0)
+				{
+					s.allocatedBytes.add(endBytes - startBytes);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Snapshot of the recorded subscribers, ordered by total time spent descending
+	 */
+	List<SubscriberProfile> snapshot()
+	{
+		final List<Map.Entry<EventBus.Subscriber, Stats>> entries;
+		synchronized (stats)
+		{
+			entries = new ArrayList<>(stats.entrySet());
+		}
+
+		final List<SubscriberProfile> profiles = new ArrayList<>(entries.size());
+		for (Map.Entry<EventBus.Subscriber, Stats> entry : entries)
+		{
+			final EventBus.Subscriber subscriber = entry.getKey();
+			final Stats s = entry.getValue();
+			profiles.add(new SubscriberProfile(
+				subscriber.getEventType(),
+				subscriber,
+				s.calls.sum(),
+				s.totalNanos.sum(),
+				s.maxNanos.get(),
+				threadMXBean != null ? s.allocatedBytes.sum() : -1L));
+		}
+		profiles.sort(Comparator.comparingLong(SubscriberProfile::getTotalNanos).reversed());
+		return profiles;
+	}
+
+	void reset()
+	{
+		stats.clear();
+	}
+
+	/**
+	 * Discard the stats of an unregistered subscriber
+	 */
+	void remove(EventBus.Subscriber subscriber)
+	{
+		stats.remove(subscriber);
+	}
+
+	/**
+	 * Restore the JVM's thread allocation tracking to how it was before profiling started. The recorded
+	 * stats can still be read afterwards.
+	 */
+	void stop()
+	{
+		if (threadMXBean != null && !allocationTrackingEnabled)
+		{
+			threadMXBean.setThreadAllocatedMemoryEnabled(false);
+		}
+	}
+}
@@ -38,7 +38,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -56,6 +55,7 @@ import net.runelite.api.SpritePixels;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.task.TaskExecutor;
 import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.http.api.item.ItemPrice;
 
@@ -83,6 +83,7 @@ public class ItemManager
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
+	private final TaskExecutor taskExecutor;
 
 	@Inject(optional = true)
 	@Named("activePriceThreshold")
@@ -196,16 +197,17 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+	public ItemManager(Client client, TaskExecutor taskExecutor,
+		ClientThread clientThread, ItemClient itemClient, RuneLiteConfig runeLiteConfig)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
+		this.taskExecutor = taskExecutor;
 
-		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
-		scheduledExecutorService.submit(this::loadStats);
+		taskExecutor.execute(TaskExecutor.Lane.IO, TaskExecutor.Priority.LOW, this::refreshPrices);
+		taskExecutor.execute(TaskExecutor.Lane.IO, TaskExecutor.Priority.LOW, this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
 			.maximumSize(128L)
@@ -232,6 +234,19 @@ public class ItemManager
 			});
 	}
 
+	private void refreshPrices()
+	{
+		try
+		{
+			loadPrices();
+		}
+		finally
+		{
+			// the next refresh is only scheduled once this one has finished, so refreshes never overlap
+			taskExecutor.schedule(TaskExecutor.Lane.IO, TaskExecutor.Priority.LOW, this::refreshPrices, 30, TimeUnit.MINUTES);
+		}
+	}
+
 	private void loadPrices()
 	{
 		try
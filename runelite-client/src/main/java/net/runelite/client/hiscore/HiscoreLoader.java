@@ -26,23 +26,22 @@ package net.runelite.client.hiscore;
 
 import com.google.common.cache.CacheLoader;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListeningExecutorService;
-import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
 import lombok.extern.slf4j.Slf4j;
 import static net.runelite.client.hiscore.HiscoreManager.EMPTY;
 import static net.runelite.client.hiscore.HiscoreManager.NONE;
+import net.runelite.client.task.TaskExecutor;
 
 @Slf4j
 class HiscoreLoader extends CacheLoader<HiscoreManager.HiscoreKey, HiscoreResult>
 {
-	private final ListeningExecutorService executorService;
+	private final TaskExecutor executor;
 	private final HiscoreClient hiscoreClient;
 
-	HiscoreLoader(ScheduledExecutorService executor, HiscoreClient client)
+	HiscoreLoader(TaskExecutor executor, HiscoreClient client)
 	{
-		this.executorService = MoreExecutors.listeningDecorator(executor);
+		this.executor = executor;
 		this.hiscoreClient = client;
 	}
 
@@ -57,7 +56,10 @@ class HiscoreLoader extends CacheLoader<HiscoreManager.HiscoreKey, HiscoreResult
 	{
 		log.debug("Submitting hiscore lookup for {} type {}", hiscoreKey.getUsername(), hiscoreKey.getType());
 
-		return executorService.submit(() -> fetch(hiscoreKey));
+		// lookups are usually for a player the user is waiting on, so run them ahead of bulk requests
+		ListenableFutureTask<HiscoreResult> task = ListenableFutureTask.create(() -> fetch(hiscoreKey));
+		executor.execute(TaskExecutor.Lane.IO, TaskExecutor.Priority.HIGH, task);
+		return task;
 	}
 
 	private HiscoreResult fetch(HiscoreManager.HiscoreKey hiscoreKey)
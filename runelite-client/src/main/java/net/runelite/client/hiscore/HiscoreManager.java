@@ -28,12 +28,12 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import net.runelite.client.task.TaskExecutor;
 
 @Singleton
 public class HiscoreManager
@@ -53,7 +53,7 @@ public class HiscoreManager
 	private final HiscoreClient hiscoreClient;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(TaskExecutor executor, HiscoreClient hiscoreClient)
 	{
 		this.hiscoreClient = hiscoreClient;
 		hiscoreCache = CacheBuilder.newBuilder()
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -159,6 +160,7 @@ public class PartyService
 
 		log.debug("Party change to {} (id {})", passphrase, id);
 		members.clear();
+		updatePartyMembers();
 		partyId = id;
 		partyPassphrase = passphrase;
 
@@ -186,6 +188,7 @@ public class PartyService
 			log.debug("Reconnecting to server");
 
 			members.clear();
+			updatePartyMembers();
 
 			wsClient.connect();
 			wsClient.join(partyId, memberId);
@@ -209,6 +212,7 @@ public class PartyService
 		{
 			partyMember = new PartyMember(message.getMemberId());
 			members.add(partyMember);
+			updatePartyMembers();
 			log.debug("User {} joins party, {} members", partyMember, members.size());
 		}
 
@@ -227,6 +231,7 @@ public class PartyService
 	{
 		if (members.removeIf(member -> member.getMemberId() == message.getMemberId()))
 		{
+			updatePartyMembers();
 			log.debug("User {} leaves party, {} members", message.getMemberId(), members.size());
 		}
 	}
@@ -312,6 +317,13 @@ public class PartyService
 		}
 	}
 
+	private void updatePartyMembers()
+	{
+		wsClient.setPartyMembers(members.stream()
+			.map(PartyMember::getMemberId)
+			.collect(Collectors.toUnmodifiableSet()));
+	}
+
 	private static long passphraseToId(String passphrase)
 	{
 		return Hashing.sha256().hashBytes(
@@ -24,13 +24,21 @@
  */
 package net.runelite.client.party;
 
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -40,7 +48,9 @@ import net.runelite.client.RuneLite;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
+import net.runelite.client.party.messages.CodecSync;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -54,15 +64,27 @@ import okio.ByteString;
 @Singleton
 public class WSClient extends WebSocketListener implements AutoCloseable
 {
+	// marks binary message data, as opposed to JSON, which always starts with '{'
+	private static final byte BINARY = 0;
+
 	private final EventBus eventBus;
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final Map<Class<? extends WebsocketMessage>, PartyMessageCodec<?>> codecs = new ConcurrentHashMap<>();
+	private final Map<String, PartyMessageCodec<?>> codecsByType = new ConcurrentHashMap<>();
+	// the codec version of each message type the other members of the party can decode from binary.
+	// Members are added with no codecs when they are first seen, and get their codecs once they send a CodecSync.
+	private final Map<Long, Map<String, Integer>> memberCodecs = new ConcurrentHashMap<>();
+	// the members of the party known to the party service
+	private volatile Set<Long> partyMembers = Collections.emptySet();
 
 	private volatile Gson gson;
 	@Getter
 	private UUID sessionId;
 	private WebSocket webSocket;
+	private volatile long partyId;
+	private volatile long memberId;
 
 	@Inject
 	private WSClient(EventBus eventBus, OkHttpClient okHttpClient, @Named("runelite.ws") HttpUrl runeliteWs)
@@ -70,7 +92,7 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		this.eventBus = eventBus;
 		this.okHttpClient = okHttpClient;
 		this.runeliteWs = runeliteWs;
-		this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+		addCodec(UserSync.class, UserSync.CODEC);
 	}
 
 	public boolean sessionExists()
@@ -121,24 +143,86 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		return webSocket != null;
 	}
 
-	public void registerMessage(final Class<? extends WebsocketMessage> message)
+	public synchronized void registerMessage(final Class<? extends WebsocketMessage> message)
 	{
 		if (messages.add(message))
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			// rebuilt when next used, so registering several messages at once only builds it once
+			gson = null;
+		}
+	}
+
+	/**
+	 * Register a message along with a binary codec for it. The codec is used in place of JSON
+	 * when every other member of the party has also registered the same version of the codec.
+	 */
+	public <T extends WebsocketMessage> void registerMessage(final Class<T> message, final PartyMessageCodec<T> codec)
+	{
+		registerMessage(message);
+		if (addCodec(message, codec))
+		{
+			syncCodecs(false);
 		}
 	}
 
-	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
+	public synchronized void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
 		if (messages.remove(message))
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			gson = null;
+		}
+
+		if (codecs.remove(message) != null)
+		{
+			codecsByType.remove(message.getSimpleName());
+			syncCodecs(false);
+		}
+	}
+
+	private boolean addCodec(final Class<? extends WebsocketMessage> message, final PartyMessageCodec<?> codec)
+	{
+		if (codecs.put(message, codec) != null)
+		{
+			return false;
+		}
+
+		codecsByType.put(message.getSimpleName(), codec);
+		return true;
+	}
+
+	private Gson gson()
+	{
+		Gson gson = this.gson;
+		if (gson == null)
+		{
+			synchronized (this)
+			{
+				gson = this.gson;
+				if (gson == null)
+				{
+					gson = this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+				}
+			}
 		}
+		return gson;
+	}
+
+	/**
+	 * Set the members of the party known to the party service. Messages are only sent as binary once
+	 * each of these members, and each other member messages have been received from, has announced
+	 * a codec for the message.
+	 */
+	void setPartyMembers(Set<Long> partyMembers)
+	{
+		this.partyMembers = partyMembers;
 	}
 
 	void join(long partyId, long memberId)
 	{
+		this.partyId = partyId;
+		this.memberId = memberId;
+		memberCodecs.clear();
+
 		final Party.Join join = Party.Join.newBuilder()
 			.setPartyId(partyId)
 			.setMemberId(memberId)
@@ -151,6 +235,9 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	void part()
 	{
+		partyId = 0;
+		memberCodecs.clear();
+
 		final Party.Part part = Party.Part.newBuilder()
 			.build();
 		final Party.C2S c2s = Party.C2S.newBuilder()
@@ -162,10 +249,10 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	void send(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
-		final String json = gson.toJson(message, WebsocketMessage.class);
+		final String type = message.getClass().getSimpleName();
 		final Party.Data data = Party.Data.newBuilder()
-			.setType(message.getClass().getSimpleName())
-			.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
+			.setType(type)
+			.setData(encode(message, type))
 			.build();
 		final Party.C2S c2s = Party.C2S.newBuilder()
 			.setData(data)
@@ -173,6 +260,98 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		send(c2s);
 	}
 
+	@SuppressWarnings("unchecked")
+	private com.google.protobuf.ByteString encode(WebsocketMessage message, String type)
+	{
+		final PartyMessageCodec<WebsocketMessage> codec = (PartyMessageCodec<WebsocketMessage>) codecs.get(message.getClass());
+		if (codec != null && membersDecode(type, codec.getVersion()))
+		{
+			final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+			out.writeByte(BINARY);
+			codec.encode(message, out);
+			return com.google.protobuf.ByteString.copyFrom(out.toByteArray());
+		}
+
+		final String json = gson().toJson(message, WebsocketMessage.class);
+		return com.google.protobuf.ByteString.copyFromUtf8(json);
+	}
+
+	@Nullable
+	private WebsocketMessage decode(Party.PartyData data)
+	{
+		final com.google.protobuf.ByteString bytes = data.getData();
+		if (!bytes.isEmpty() && bytes.byteAt(0) == BINARY)
+		{
+			final PartyMessageCodec<?> codec = codecsByType.get(data.getType());
+			if (codec == null)
+			{
+				log.debug("No codec for binary message {}", data.getType());
+				return null;
+			}
+
+			return codec.decode(ByteStreams.newDataInput(bytes.toByteArray(), 1));
+		}
+
+		return gson().fromJson(bytes.toStringUtf8(), WebsocketMessage.class);
+	}
+
+	private boolean membersDecode(String type, int version)
+	{
+		final Set<Long> members = new HashSet<>(partyMembers);
+		members.addAll(memberCodecs.keySet());
+		members.remove(memberId);
+
+		// until another member has been seen there is no telling which clients are in the party
+		if (members.isEmpty())
+		{
+			return false;
+		}
+
+		for (long member : members)
+		{
+			final Map<String, Integer> codecs = memberCodecs.get(member);
+			if (codecs == null || !Objects.equals(codecs.get(type), version))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tell the party which messages can be sent to this client as binary
+	 *
+	 * @param request whether the other members should reply with their codecs
+	 */
+	private void syncCodecs(boolean request)
+	{
+		if (webSocket == null || partyId == 0)
+		{
+			return;
+		}
+
+		final Map<String, Integer> versions = new HashMap<>();
+		codecsByType.forEach((type, codec) -> versions.put(type, codec.getVersion()));
+		send(new CodecSync(versions, request));
+	}
+
+	private void onCodecSync(CodecSync codecSync)
+	{
+		if (codecSync.getMemberId() == memberId)
+		{
+			return;
+		}
+
+		final Map<String, Integer> codecs = codecSync.getCodecs() == null ? Collections.emptyMap() : new HashMap<>(codecSync.getCodecs());
+		memberCodecs.put(codecSync.getMemberId(), codecs);
+		log.debug("Member {} has codecs {}", codecSync.getMemberId(), codecs);
+
+		if (codecSync.isRequest())
+		{
+			syncCodecs(false);
+		}
+	}
+
 	private void send(Party.C2S message)
 	{
 		if (webSocket == null)
@@ -218,12 +397,25 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			case JOIN:
 				Party.UserJoin join = s2c.getJoin();
 				UserJoin userJoin = new UserJoin(join.getPartyId(), join.getMemberId());
+				if (join.getPartyId() == partyId)
+				{
+					if (join.getMemberId() == memberId)
+					{
+						syncCodecs(true);
+					}
+					else
+					{
+						// members send as JSON until they have the codecs of every member
+						memberCodecs.putIfAbsent(join.getMemberId(), Collections.emptyMap());
+					}
+				}
 				log.debug("Got: {}", userJoin);
 				eventBus.post(userJoin);
 				break;
 			case PART:
 				Party.UserPart part = s2c.getPart();
 				UserPart userPart = new UserPart(part.getMemberId());
+				memberCodecs.remove(part.getMemberId());
 				log.debug("Got: {}", userPart);
 				eventBus.post(userPart);
 				break;
@@ -231,21 +423,39 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 				Party.PartyData data = s2c.getData();
 				final WebsocketMessage message;
 
+				if (data.getMemberId() != memberId && partyId != 0)
+				{
+					// a joining client isn't told of the members already in the party, so members are also
+					// learned of from their messages. They are sent JSON until they announce their codecs.
+					memberCodecs.putIfAbsent(data.getMemberId(), Collections.emptyMap());
+				}
+
 				try
 				{
-					message = gson.fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
+					message = decode(data);
 				}
-				catch (JsonParseException e)
+				catch (JsonParseException | IllegalArgumentException | IllegalStateException e)
 				{
 					log.debug("Failed to deserialize message", e);
 					return;
 				}
 
+				if (message == null)
+				{
+					return;
+				}
+
 				if (message instanceof PartyMemberMessage)
 				{
 					((PartyMemberMessage) message).setMemberId(data.getMemberId());
 				}
 
+				if (message instanceof CodecSync)
+				{
+					onCodecSync((CodecSync) message);
+					return;
+				}
+
 				log.debug("Got: {}", message);
 				eventBus.post(message);
 		}
@@ -24,6 +24,23 @@
  */
 package net.runelite.client.party.messages;
 
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import net.runelite.client.party.PartyMessageCodec;
+
 public class UserSync extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<UserSync> CODEC = new PartyMessageCodec<UserSync>()
+	{
+		@Override
+		public void encode(UserSync message, ByteArrayDataOutput out)
+		{
+		}
+
+		@Override
+		public UserSync decode(ByteArrayDataInput in)
+		{
+			return new UserSync();
+		}
+	};
 }
@@ -37,8 +37,11 @@ import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,17 +49,27 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -82,14 +95,22 @@ import net.runelite.client.util.ReflectUtil;
 @Slf4j
 public class PluginManager
 {
+	private static final long PLUGIN_START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
 	/**
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+
+	/**
+	 * Index of the core plugins, written by the build into the base package
+	 */
+	private static final String PLUGIN_INDEX = "plugins.index";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
 	private final boolean safeMode;
+	private final boolean parallelPluginLoading;
 	private final EventBus eventBus;
 	private final Scheduler scheduler;
 	private final ConfigManager configManager;
@@ -102,6 +123,7 @@ public class PluginManager
 	PluginManager(
 		@Named("developerMode") final boolean developerMode,
 		@Named("safeMode") final boolean safeMode,
+		@Named("parallelPluginLoading") final boolean parallelPluginLoading,
 		final EventBus eventBus,
 		final Scheduler scheduler,
 		final ConfigManager configManager,
@@ -109,6 +131,7 @@ public class PluginManager
 	{
 		this.developerMode = developerMode;
 		this.safeMode = safeMode;
+		this.parallelPluginLoading = parallelPluginLoading;
 		this.eventBus = eventBus;
 		this.scheduler = scheduler;
 		this.configManager = configManager;
@@ -226,21 +249,20 @@ public class PluginManager
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
 		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		while (loaded < scannedPlugins.size())
 		{
+			final AtomicInteger next = new AtomicInteger(loaded);
 			try
 			{
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
+					// in parallel loading mode, start as many plugins as fit in the batch time per trip to the EDT
+					final long deadline = System.nanoTime() + PLUGIN_START_BATCH_NANOS;
+					do
 					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
-					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						tryStartPlugin(scannedPlugins.get(next.getAndIncrement()));
 					}
+					while (parallelPluginLoading && next.get() < scannedPlugins.size() && System.nanoTime() < deadline);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -248,7 +270,7 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
+			loaded = next.get();
 			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
 		}
 
@@ -258,19 +280,82 @@ public class PluginManager
 		}
 	}
 
+	private void tryStartPlugin(Plugin plugin)
+	{
+		try
+		{
+			startPlugin(plugin);
+		}
+		catch (PluginInstantiationException ex)
+		{
+			log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+			plugins.remove(plugin);
+		}
+	}
+
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		// developers rebuild from their IDE without running the build, so the index may be stale
+		List<Class<?>> plugins = developerMode ? null : readPluginIndex();
+		if (plugins == null)
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Loads the classes listed in the plugin index, avoiding loading every class in the plugin package.
+	 *
+	 * @return the indexed classes, or null if there is no usable index
+	 */
+	@Nullable
+	private List<Class<?>> readPluginIndex() throws IOException
+	{
+		InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX);
+		if (in == null)
+		{
+			log.debug("No plugin index, scanning for plugins");
+			return null;
+		}
+
+		ClassLoader classLoader = getClass().getClassLoader();
+		List<Class<?>> plugins = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty())
+				{
+					continue;
+				}
+
+				// the class name is followed by its dependencies and config, which are read from the class itself
+				int tab = line.indexOf('\t');
+				String className = tab == -1 ? line : line.substring(0, tab);
+				try
+				{
+					plugins.add(classLoader.loadClass(className));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					log.warn("Plugin index references missing class {}, scanning for plugins", className);
+					return null;
+				}
+			}
+		}
+		return plugins;
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -373,6 +458,11 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
+		if (parallelPluginLoading)
+		{
+			return instantiateParallel(dependencyLevels(graph, sortedPlugins), onPluginLoaded);
+		}
+
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
@@ -399,6 +489,57 @@ public class PluginManager
 		return newPlugins;
 	}
 
+	private List<Plugin> instantiateParallel(List<List<Class<? extends Plugin>>> levels, BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
+	{
+		final int total = levels.stream().mapToInt(List::size).sum();
+		final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try
+		{
+			int loaded = 0;
+			List<Plugin> newPlugins = new ArrayList<>();
+			for (List<Class<? extends Plugin>> level : levels)
+			{
+				// plugins only depend on plugins from earlier levels, which have all been added to this.plugins
+				List<Future<Plugin>> futures = new ArrayList<>(level.size());
+				for (Class<? extends Plugin> pluginClazz : level)
+				{
+					futures.add(executor.submit(() -> instantiate(this.plugins, (Class<Plugin>) pluginClazz)));
+				}
+
+				for (Future<Plugin> future : futures)
+				{
+					try
+					{
+						Plugin plugin = future.get();
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
+					catch (ExecutionException ex)
+					{
+						log.error("Error instantiating plugin!", ex.getCause());
+					}
+					catch (InterruptedException ex)
+					{
+						Thread.currentThread().interrupt();
+						throw new PluginInstantiationException(ex);
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, total);
+					}
+				}
+			}
+
+			return newPlugins;
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
 	{
 		// plugins always start in the EDT
@@ -696,6 +837,38 @@ public class PluginManager
 		return l;
 	}
 
+	/**
+	 * Groups topologically sorted nodes by their depth in the graph. Nodes only have edges from nodes
+	 * of earlier levels, so all of the nodes of a level can be processed at once.
+	 *
+	 * @param graph  - A directed acyclic graph
+	 * @param sorted - The nodes of graph, topologically sorted
+	 * @param <T>    - The type of the item contained in the nodes of the graph
+	 * @return - The nodes of each level, in the order of sorted
+	 */
+	@VisibleForTesting
+	static <T> List<List<T>> dependencyLevels(Graph<T> graph, List<T> sorted)
+	{
+		Map<T, Integer> depths = new HashMap<>();
+		List<List<T>> levels = new ArrayList<>();
+		for (T node : sorted)
+		{
+			int depth = 0;
+			for (T predecessor : graph.predecessors(node))
+			{
+				depth = Math.max(depth, depths.get(predecessor) + 1);
+			}
+			depths.put(node, depth);
+
+			while (levels.size() <= depth)
+			{
+				levels.add(new ArrayList<>());
+			}
+			levels.get(depth).add(node);
+		}
+		return levels;
+	}
+
 	public List<Plugin> conflictsForPlugin(Plugin plugin)
 	{
 		Set<String> conflicts;
@@ -27,6 +27,8 @@ package net.runelite.client.plugins.boosts;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -112,6 +114,33 @@ class BoostsOverlay extends OverlayPanel
 		return super.render(graphics);
 	}
 
+	@Override
+	protected Object getPanelContentKey()
+	{
+		if (!config.displayPanel())
+		{
+			return null;
+		}
+
+		final Set<Skill> boostedSkills = plugin.getSkillsToDisplay();
+		final List<Object> key = new ArrayList<>(4 + boostedSkills.size() * 3);
+		key.add(config.useRelativeBoost());
+		key.add(config.boostThreshold());
+
+		final int nextDown = plugin.getChangeDownTicks();
+		key.add(nextDown != -1 ? plugin.getChangeTime(nextDown) : null);
+		final int nextUp = plugin.getChangeUpTicks();
+		key.add(nextUp != -1 ? plugin.getChangeTime(nextUp) : null);
+
+		for (Skill skill : boostedSkills)
+		{
+			key.add(skill);
+			key.add(client.getBoostedSkillLevel(skill));
+			key.add(client.getRealSkillLevel(skill));
+		}
+		return key;
+	}
+
 	private Color getTextColor(int boost)
 	{
 		if (boost < 0)
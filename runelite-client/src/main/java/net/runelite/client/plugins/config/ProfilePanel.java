@@ -833,6 +833,7 @@ class ProfilePanel extends PluginPanel
 		{
 			// save config to disk so the export copies the full config
 			configManager.sendConfig();
+			configManager.flushProfile(profile);
 
 			File source = ProfileManager.profileConfigFile(profile);
 			if (!source.exists())
@@ -904,6 +905,7 @@ class ProfilePanel extends PluginPanel
 				reload(lock.getProfiles());
 
 				// copy config if present
+				configManager.flushProfile(profile);
 				File from = ProfileManager.profileConfigFile(profile);
 				File to = ProfileManager.profileConfigFile(clonedProfile);
 
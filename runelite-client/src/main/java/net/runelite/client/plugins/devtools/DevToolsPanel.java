@@ -60,6 +60,8 @@ class DevToolsPanel extends PluginPanel
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
 	private final InventoryInspector inventoryInspector;
+	private final EventBusInspector eventBusInspector;
+	private final OverlayInspector overlayInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
 
@@ -73,6 +75,8 @@ class DevToolsPanel extends PluginPanel
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
 		InventoryInspector inventoryInspector,
+		EventBusInspector eventBusInspector,
+		OverlayInspector overlayInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
 		ScheduledExecutorService scheduledExecutorService)
@@ -85,6 +89,8 @@ class DevToolsPanel extends PluginPanel
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
+		this.eventBusInspector = eventBusInspector;
+		this.overlayInspector = overlayInspector;
 		this.scriptInspector = scriptInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
@@ -183,6 +189,12 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getTileFlags());
 
+		container.add(plugin.getEventBusInspector());
+		plugin.getEventBusInspector().addFrame(eventBusInspector);
+
+		container.add(plugin.getOverlayInspector());
+		plugin.getOverlayInspector().addFrame(overlayInspector);
+
 		try
 		{
 			ShellFrame sf = plugin.getInjector().getInstance(ShellFrame.class);
@@ -165,6 +165,8 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
 	private DevToolsButton inventoryInspector;
+	private DevToolsButton eventBusInspector;
+	private DevToolsButton overlayInspector;
 	private DevToolsButton tileFlags;
 	private DevToolsButton shell;
 	private DevToolsButton menus;
@@ -266,6 +268,8 @@ public class DevToolsPlugin extends Plugin
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
 		inventoryInspector = new DevToolsButton("Inventory Inspector");
+		eventBusInspector = new DevToolsButton("EventBus Inspector");
+		overlayInspector = new DevToolsButton("Overlay Inspector");
 		tileFlags = new DevToolsButton("Tile flags");
 		shell = new DevToolsButton("Shell");
 		menus = new DevToolsButton("Menus");
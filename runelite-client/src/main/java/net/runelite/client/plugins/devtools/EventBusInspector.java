@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.SubscriberProfile;
+
+class EventBusInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private final EventBus eventBus;
+	private final ProfileTableModel model = new ProfileTableModel();
+	private final JCheckBox trackAllocations = new JCheckBox("Track allocations");
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	@Inject
+	EventBusInspector(EventBus eventBus)
+	{
+		this.eventBus = eventBus;
+
+		setTitle("RuneLite EventBus Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getColumnModel().getColumn(ProfileTableModel.COL_SUBSCRIBER).setPreferredWidth(250);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		// changing allocation tracking starts a new profiling session
+		trackAllocations.addActionListener(e ->
+		{
+			eventBus.setProfiling(true, trackAllocations.isSelected());
+			refresh();
+		});
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			eventBus.resetProfile();
+			refresh();
+		});
+
+		final JPanel bottomRow = new JPanel();
+		bottomRow.add(trackAllocations);
+		bottomRow.add(resetBtn);
+		add(bottomRow, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		eventBus.setProfiling(true, trackAllocations.isSelected());
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+		eventBus.setProfiling(false, false);
+	}
+
+	private void refresh()
+	{
+		model.setProfiles(eventBus.getProfile());
+	}
+
+	private static class ProfileTableModel extends AbstractTableModel
+	{
+		private static final int COL_EVENT = 0;
+		private static final int COL_SUBSCRIBER = 1;
+		private static final int COL_CALLS = 2;
+		private static final int COL_TOTAL = 3;
+		private static final int COL_AVERAGE = 4;
+		private static final int COL_MAX = 5;
+		private static final int COL_ALLOCATED = 6;
+
+		private static final String[] COLUMNS = {
+			"Event", "Subscriber", "Calls", "Total (ms)", "Avg (us)", "Max (us)", "Allocated (KiB)"
+		};
+
+		private List<SubscriberProfile> profiles = Collections.emptyList();
+
+		void setProfiles(List<SubscriberProfile> profiles)
+		{
+			this.profiles = profiles;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case COL_EVENT:
+				case COL_SUBSCRIBER:
+					return String.class;
+				case COL_CALLS:
+				case COL_ALLOCATED:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return profiles.size();
+		}
+
+		@Override
+		public Object getValueAt(int rowIndex, int columnIndex)
+		{
+			final SubscriberProfile profile = profiles.get(rowIndex);
+			switch (columnIndex)
+			{
+				case COL_EVENT:
+					return profile.getEventType().getSimpleName();
+				case COL_SUBSCRIBER:
+					return profile.getSubscriberName();
+				case COL_CALLS:
+					return profile.getCalls();
+				case COL_TOTAL:
+					return profile.getTotalNanos() / 1_000_000d;
+				case COL_AVERAGE:
+					return profile.getCalls() == 0 ? 0d : profile.getTotalNanos() / 1_000d / profile.getCalls();
+				case COL_MAX:
+					return profile.getMaxNanos() / 1_000d;
+				case COL_ALLOCATED:
+					return profile.getAllocatedBytes() < 0 ? null : profile.getAllocatedBytes() / 1024;
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayProfiler;
+
+class OverlayInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private final OverlayProfiler overlayProfiler;
+	private final TimingTableModel model = new TimingTableModel();
+	private final JLabel layerTimings = new JLabel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	@Inject
+	OverlayInspector(OverlayProfiler overlayProfiler)
+	{
+		this.overlayProfiler = overlayProfiler;
+
+		setTitle("RuneLite Overlay Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getColumnModel().getColumn(TimingTableModel.COL_NAME).setPreferredWidth(250);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(700, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		layerTimings.setBorder(new EmptyBorder(5, 5, 5, 5));
+		add(layerTimings, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		overlayProfiler.setEnabled(true);
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+		overlayProfiler.setEnabled(false);
+		model.setTimings(Collections.emptyList());
+	}
+
+	private void refresh()
+	{
+		model.setTimings(overlayProfiler.getTimings());
+
+		final StringBuilder sb = new StringBuilder("Last frame:");
+		long total = 0;
+		for (Map.Entry<OverlayLayer, Long> entry : overlayProfiler.getLayerTimings().entrySet())
+		{
+			sb.append(' ').append(entry.getKey()).append(String.format(" %.2fms", entry.getValue() / 1_000_000d));
+			total += entry.getValue();
+		}
+		sb.append(String.format(" - total %.2fms", total / 1_000_000d));
+		layerTimings.setText(sb.toString());
+	}
+
+	private static class TimingTableModel extends AbstractTableModel
+	{
+		private static final int COL_NAME = 0;
+		private static final int COL_LAYER = 1;
+		private static final int COL_LAST = 2;
+		private static final int COL_P50 = 3;
+		private static final int COL_P99 = 4;
+		private static final int COL_FRAMES = 5;
+
+		private static final String[] COLUMNS = {
+			"Overlay", "Layer", "Last (ms)", "p50 (ms)", "p99 (ms)", "Frames"
+		};
+
+		private List<OverlayProfiler.OverlayTiming> timings = Collections.emptyList();
+
+		void setTimings(List<OverlayProfiler.OverlayTiming> timings)
+		{
+			this.timings = timings;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case COL_NAME:
+				case COL_LAYER:
+					return String.class;
+				case COL_FRAMES:
+					return Integer.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return timings.size();
+		}
+
+		@Override
+		public Object getValueAt(int rowIndex, int columnIndex)
+		{
+			final OverlayProfiler.OverlayTiming timing = timings.get(rowIndex);
+			switch (columnIndex)
+			{
+				case COL_NAME:
+					return timing.getName();
+				case COL_LAYER:
+					return timing.getLayer().name();
+				case COL_LAST:
+					return timing.getLastFrameNanos() / 1_000_000d;
+				case COL_P50:
+					return timing.getP50Nanos() / 1_000_000d;
+				case COL_P99:
+					return timing.getP99Nanos() / 1_000_000d;
+				case COL_FRAMES:
+					return timing.getFrames();
+				default:
+					return null;
+			}
+		}
+	}
+}
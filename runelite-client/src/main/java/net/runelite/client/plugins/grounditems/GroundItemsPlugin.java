@@ -40,7 +40,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -194,6 +193,7 @@ public class GroundItemsPlugin extends Plugin
 	private LoadingCache<NamedQuantity, Boolean> highlightedItems;
 	private LoadingCache<NamedQuantity, Boolean> hiddenItems;
 	private final Map<WorldPoint, Lootbeam> lootbeams = new HashMap<>();
+	private final MenuEntryCollapser menuEntryCollapser = new MenuEntryCollapser();
 
 	@Provides
 	GroundItemsConfig provideConfig(ConfigManager configManager)
@@ -365,45 +365,11 @@ public class GroundItemsPlugin extends Plugin
 			return;
 		}
 
-		final MenuEntry[] menuEntries = client.getMenuEntries();
-		final List<MenuEntryWithCount> newEntries = new ArrayList<>(menuEntries.length);
-
-		outer:
-		for (int i = menuEntries.length - 1; i >= 0; i--)
+		final MenuEntry[] collapsed = menuEntryCollapser.collapse(client.getMenuEntries());
+		if (collapsed != null)
 		{
-			MenuEntry menuEntry = menuEntries[i];
-
-			MenuAction menuType = menuEntry.getType();
-			if (menuType == MenuAction.GROUND_ITEM_FIRST_OPTION || menuType == MenuAction.GROUND_ITEM_SECOND_OPTION
-				|| menuType == MenuAction.GROUND_ITEM_THIRD_OPTION || menuType == MenuAction.GROUND_ITEM_FOURTH_OPTION
-				|| menuType == MenuAction.GROUND_ITEM_FIFTH_OPTION || menuType == MenuAction.EXAMINE_ITEM_GROUND)
-			{
-				for (MenuEntryWithCount entryWCount : newEntries)
-				{
-					if (entryWCount.getEntry().equals(menuEntry))
-					{
-						entryWCount.increment();
-						continue outer;
-					}
-				}
-			}
-
-			newEntries.add(new MenuEntryWithCount(menuEntry));
+			client.setMenuEntries(collapsed);
 		}
-
-		Collections.reverse(newEntries);
-
-		client.setMenuEntries(newEntries.stream().map(e ->
-		{
-			final MenuEntry entry = e.getEntry();
-			final int count = e.getCount();
-			if (count > 1)
-			{
-				entry.setTarget(entry.getTarget() + " x " + count);
-			}
-
-			return entry;
-		}).toArray(MenuEntry[]::new));
 	}
 
 	private GroundItem buildGroundItem(final Tile tile, final TileItem item)
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+
+/**
+ * Collapses identical ground item menu entries into one entry with a count. Entries are matched
+ * by hashing, and the buffers used are kept between calls, since this runs every client tick.
+ */
+class MenuEntryCollapser
+{
+	@EqualsAndHashCode
+	private static class Key
+	{
+		private MenuAction type;
+		private int identifier;
+		private int param0;
+		private int param1;
+		private int worldViewId;
+		private String option;
+		private String target;
+
+		Key set(MenuEntry entry)
+		{
+			type = entry.getType();
+			identifier = entry.getIdentifier();
+			param0 = entry.getParam0();
+			param1 = entry.getParam1();
+			worldViewId = entry.getWorldViewId();
+			option = entry.getOption();
+			target = entry.getTarget();
+			return this;
+		}
+
+		boolean matches(MenuEntry entry)
+		{
+			return type == entry.getType()
+				&& identifier == entry.getIdentifier()
+				&& param0 == entry.getParam0()
+				&& param1 == entry.getParam1()
+				&& worldViewId == entry.getWorldViewId()
+				&& Objects.equals(option, entry.getOption())
+				&& Objects.equals(target, entry.getTarget());
+		}
+	}
+
+	// index into kept of the entry each key was collapsed into
+	private final Map<Key, Integer> keptIndexes = new HashMap<>();
+	private Key[] keys = new Key[0];
+	private MenuEntry[] kept = new MenuEntry[0];
+	private int[] counts = new int[0];
+
+	// the menu as it was after the last call, so an unchanged menu can be skipped
+	private Key[] lastMenu = new Key[0];
+	private int lastMenuLength = -1;
+
+	/**
+	 * Collapse the identical ground item entries of a menu
+	 *
+	 * @param menuEntries the menu entries
+	 * @return the collapsed menu entries, or null if there was nothing to collapse
+	 */
+	@Nullable
+	MenuEntry[] collapse(MenuEntry[] menuEntries)
+	{
+		final int length = menuEntries.length;
+		if (isLastMenu(menuEntries))
+		{
+			return null;
+		}
+
+		if (keys.length < length)
+		{
+			keys = grow(keys, length);
+			kept = new MenuEntry[keys.length];
+			counts = new int[keys.length];
+		}
+
+		keptIndexes.clear();
+		int numKept = 0;
+		for (int i = length - 1; i >= 0; i--)
+		{
+			final MenuEntry menuEntry = menuEntries[i];
+			if (isGroundItem(menuEntry.getType()))
+			{
+				final Integer index = keptIndexes.putIfAbsent(keys[i].set(menuEntry), numKept);
+				if (index != null)
+				{
+					counts[index]++;
+					continue;
+				}
+			}
+
+			kept[numKept] = menuEntry;
+			counts[numKept] = 1;
+			numKept++;
+		}
+
+		if (numKept == length)
+		{
+			Arrays.fill(kept, 0, numKept, null);
+			remember(menuEntries);
+			return null;
+		}
+
+		// entries were kept from the bottom of the menu up, so reverse them back
+		final MenuEntry[] collapsed = new MenuEntry[numKept];
+		for (int i = 0; i < numKept; i++)
+		{
+			final MenuEntry entry = kept[numKept - 1 - i];
+			final int count = counts[numKept - 1 - i];
+			if (count > 1)
+			{
+				entry.setTarget(entry.getTarget() + " x " + count);
+			}
+
+			collapsed[i] = entry;
+		}
+
+		Arrays.fill(kept, 0, numKept, null);
+		remember(collapsed);
+		return collapsed;
+	}
+
+	private boolean isLastMenu(MenuEntry[] menuEntries)
+	{
+		if (menuEntries.length != lastMenuLength)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < menuEntries.length; i++)
+		{
+			if (!lastMenu[i].matches(menuEntries[i]))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void remember(MenuEntry[] menuEntries)
+	{
+		if (lastMenu.length < menuEntries.length)
+		{
+			lastMenu = grow(lastMenu, menuEntries.length);
+		}
+
+		for (int i = 0; i < menuEntries.length; i++)
+		{
+			lastMenu[i].set(menuEntries[i]);
+		}
+		lastMenuLength = menuEntries.length;
+	}
+
+	private static Key[] grow(Key[] keys, int length)
+	{
+		final int oldLength = keys.length;
+		keys = Arrays.copyOf(keys, Math.max(length, oldLength * 2));
+		for (int i = oldLength; i < keys.length; i++)
+		{
+			keys[i] = new Key();
+		}
+		return keys;
+	}
+
+	private static boolean isGroundItem(MenuAction menuType)
+	{
+		return menuType == MenuAction.GROUND_ITEM_FIRST_OPTION || menuType == MenuAction.GROUND_ITEM_SECOND_OPTION
+			|| menuType == MenuAction.GROUND_ITEM_THIRD_OPTION || menuType == MenuAction.GROUND_ITEM_FOURTH_OPTION
+			|| menuType == MenuAction.GROUND_ITEM_FIFTH_OPTION || menuType == MenuAction.EXAMINE_ITEM_GROUND;
+	}
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Local store of the loot totals of a RuneScape profile. A total is appended to the store file each
+ * time it changes, and the position of the latest total for each record type and name is indexed, so
+ * totals are only read and decoded when they are needed. The file is compacted once most of it is
+ * superseded totals.
+ * <p>
+ * Several clients may share a profile, so every operation holds a lock on a lock file next to the
+ * store, and the index is rebuilt whenever another client has changed the file.
+ */
+@Slf4j
+class LootStore
+{
+	private static final byte OP_PUT = 1;
+	private static final byte OP_REMOVE = 2;
+
+	private static final long COMPACT_MIN_SIZE = 64 * 1024;
+	private static final long NO_TIME = Long.MIN_VALUE;
+
+	// file locks can't be waited on by multiple threads of the same jvm, so threads wait on this first
+	private static final Object FILE_LOCK = new Object();
+
+	@Value
+	private static class Key
+	{
+		LootRecordType type;
+		String name;
+	}
+
+	/**
+	 * Summary of a stored loot total, enough to pick which totals to load
+	 */
+	@Value
+	static class Entry
+	{
+		LootRecordType type;
+		String name;
+		@Nullable
+		Instant last;
+		int numDrops;
+		long offset;
+		int length;
+	}
+
+	/**
+	 * The state of the store file the index was built from
+	 */
+	@Value
+	private static class Stamp
+	{
+		@Nullable
+		Object fileKey;
+		FileTime modified;
+		long size;
+	}
+
+	private final File file;
+	private final File lockFile;
+	private final Map<Key, Entry> index = new HashMap<>();
+	private long liveBytes;
+	@Nullable
+	private Stamp stamp;
+
+	LootStore(File file) throws IOException
+	{
+		this.file = file;
+		this.lockFile = new File(file.getParentFile(), file.getName() + ".lck");
+		file.getParentFile().mkdirs();
+
+		synchronized (FILE_LOCK)
+		{
+			try (FileChannel lock = lock())
+			{
+				refresh();
+				compact();
+			}
+		}
+	}
+
+	/**
+	 * Get a summary of every stored total
+	 */
+	synchronized List<Entry> entries() throws IOException
+	{
+		synchronized (FILE_LOCK)
+		{
+			try (FileChannel lock = lock())
+			{
+				refresh();
+				return new ArrayList<>(index.values());
+			}
+		}
+	}
+
+	@Nullable
+	synchronized ConfigLoot get(LootRecordType type, String name) throws IOException
+	{
+		synchronized (FILE_LOCK)
+		{
+			try (FileChannel lock = lock())
+			{
+				refresh();
+				Entry entry = index.get(new Key(type, name));
+				return entry == null ? null : read(entry);
+			}
+		}
+	}
+
+	synchronized void put(ConfigLoot loot) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0); // length, filled in below
+		out.writeByte(OP_PUT);
+		writeString(out, loot.type.name());
+		writeString(out, loot.name);
+		out.writeInt(loot.kills);
+		writeTime(out, loot.first);
+		writeTime(out, loot.last);
+		out.writeInt(loot.numDrops());
+		for (int i = 0; i < loot.numDrops() * 2; i++)
+		{
+			out.writeInt(loot.drops[i]);
+		}
+
+		synchronized (FILE_LOCK)
+		{
+			try (FileChannel lock = lock())
+			{
+				refresh();
+
+				long offset = append(bytes.toByteArray());
+				Entry entry = new Entry(loot.type, loot.name, loot.last, loot.numDrops(), offset, bytes.size());
+				Entry previous = index.put(new Key(loot.type, loot.name), entry);
+				liveBytes += entry.length - (previous != null ? previous.length : 0);
+
+				compact();
+			}
+		}
+	}
+
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		synchronized (FILE_LOCK)
+		{
+			try (FileChannel lock = lock())
+			{
+				refresh();
+
+				Entry previous = index.remove(new Key(type, name));
+				if (previous == null)
+				{
+					return;
+				}
+
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream(bytes);
+				out.writeInt(0);
+				out.writeByte(OP_REMOVE);
+				writeString(out, type.name());
+				writeString(out, name);
+				append(bytes.toByteArray());
+				liveBytes -= previous.length;
+
+				compact();
+			}
+		}
+	}
+
+	synchronized void clear() throws IOException
+	{
+		synchronized (FILE_LOCK)
+		{
+			try (FileChannel lock = lock())
+			{
+				try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+				{
+					raf.setLength(0);
+				}
+				index.clear();
+				liveBytes = 0;
+				stamp = stamp();
+			}
+		}
+	}
+
+	/**
+	 * Lock the store against other clients. The lock is released when the returned channel is closed.
+	 */
+	private FileChannel lock() throws IOException
+	{
+		FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		try
+		{
+			channel.lock();
+		}
+		catch (IOException ex)
+		{
+			channel.close();
+			throw ex;
+		}
+		return channel;
+	}
+
+	/**
+	 * Rebuild the index if the file was changed by another client since it was last read or written
+	 */
+	private void refresh() throws IOException
+	{
+		Stamp current = stamp();
+		if (stamp != null && stamp.equals(current))
+		{
+			return;
+		}
+
+		if (stamp != null)
+		{
+			log.debug("Loot store {} was changed by another client, reloading", file);
+		}
+
+		index.clear();
+		liveBytes = 0;
+		load();
+		stamp = stamp();
+	}
+
+	@Nullable
+	private Stamp stamp() throws IOException
+	{
+		try
+		{
+			BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+			return new Stamp(attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+		}
+		catch (NoSuchFileException ex)
+		{
+			return null;
+		}
+	}
+
+	private ConfigLoot read(Entry entry) throws IOException
+	{
+		byte[] record = new byte[entry.length];
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			raf.seek(entry.offset);
+			raf.readFully(record);
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		in.readInt(); // length
+		in.readByte(); // op
+		ConfigLoot loot = new ConfigLoot(LootRecordType.valueOf(readString(in)), readString(in));
+		loot.kills = in.readInt();
+		loot.first = readTime(in);
+		loot.last = readTime(in);
+		int[] drops = new int[in.readInt() * 2];
+		for (int i = 0; i < drops.length; i++)
+		{
+			drops[i] = in.readInt();
+		}
+		loot.drops = drops;
+		return loot;
+	}
+
+	private long append(byte[] record) throws IOException
+	{
+		// fill in the length
+		record[0] = (byte) (record.length >>> 24);
+		record[1] = (byte) (record.length >>> 16);
+		record[2] = (byte) (record.length >>> 8);
+		record[3] = (byte) record.length;
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			long offset = raf.length();
+			raf.seek(offset);
+			try
+			{
+				raf.write(record);
+				raf.getChannel().force(false);
+			}
+			catch (IOException ex)
+			{
+				// don't leave a partial record for later records to be appended after
+				raf.setLength(offset);
+				throw ex;
+			}
+			return offset;
+		}
+		finally
+		{
+			stamp = stamp();
+		}
+	}
+
+	/**
+	 * Rewrite the file with only the latest totals, if most of it has been superseded
+	 */
+	private void compact() throws IOException
+	{
+		long size = file.length();
+		if (size < COMPACT_MIN_SIZE || liveBytes * 2 > size)
+		{
+			return;
+		}
+
+		log.debug("Compacting loot store {}, {} of {} bytes live", file, liveBytes, size);
+
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		Map<Key, Entry> compacted = new HashMap<>();
+		try (RandomAccessFile in = new RandomAccessFile(file, "r");
+			RandomAccessFile out = new RandomAccessFile(tmp, "rw"))
+		{
+			out.setLength(0);
+			for (Map.Entry<Key, Entry> e : index.entrySet())
+			{
+				Entry entry = e.getValue();
+				byte[] record = new byte[entry.length];
+				in.seek(entry.offset);
+				in.readFully(record);
+
+				compacted.put(e.getKey(), new Entry(entry.type, entry.name, entry.last, entry.numDrops, out.getFilePointer(), entry.length));
+				out.write(record);
+			}
+			out.getFD().sync();
+		}
+
+		try
+		{
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		index.clear();
+		index.putAll(compacted);
+		stamp = stamp();
+	}
+
+	/**
+	 * Build the index by reading the headers of the records in the file
+	 */
+	private void load() throws IOException
+	{
+		if (!file.exists())
+		{
+			return;
+		}
+
+		final long size = file.length();
+		long offset = 0;
+		byte[] record = new byte[256];
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			while (true)
+			{
+				final int length;
+				try
+				{
+					length = in.readInt();
+				}
+				catch (EOFException ex)
+				{
+					break;
+				}
+
+				if (length < 5 || length > size - offset)
+				{
+					log.warn("Corrupt loot store {}, ignoring remaining records", file);
+					break;
+				}
+
+				if (record.length < length)
+				{
+					record = new byte[Math.max(length, record.length * 2)];
+				}
+				in.readFully(record, 4, length - 4);
+
+				// only the header is decoded, the drops are read again when the total is needed
+				DataInputStream header = new DataInputStream(new ByteArrayInputStream(record, 4, length - 4));
+				byte op = header.readByte();
+				if (op != OP_PUT && op != OP_REMOVE)
+				{
+					log.warn("Corrupt loot store {}, ignoring remaining records", file);
+					break;
+				}
+
+				String typeName = readString(header);
+				String name = readString(header);
+				LootRecordType type;
+				try
+				{
+					type = LootRecordType.valueOf(typeName);
+				}
+				catch (IllegalArgumentException ex)
+				{
+					log.warn("Skipping loot with unknown type {}", typeName);
+					offset += length;
+					continue;
+				}
+
+				Key key = new Key(type, name);
+				Entry previous;
+				if (op == OP_PUT)
+				{
+					header.readInt(); // kills
+					readTime(header); // first
+					Instant last = readTime(header);
+					int numDrops = header.readInt();
+
+					Entry entry = new Entry(type, name, last, numDrops, offset, length);
+					previous = index.put(key, entry);
+					liveBytes += length;
+				}
+				else
+				{
+					previous = index.remove(key);
+				}
+
+				if (previous != null)
+				{
+					liveBytes -= previous.length;
+				}
+				offset += length;
+			}
+		}
+		catch (EOFException ex)
+		{
+			// the last record was only partially written, eg. the client crashed while saving
+			log.warn("Truncated loot store {}", file);
+		}
+
+		try (RandomAccessFile out = new RandomAccessFile(file, "rw"))
+		{
+			if (out.length() > offset)
+			{
+				// drop the partial or corrupt tail, so new records are appended after the last good one
+				out.setLength(offset);
+			}
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		final byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		final int length = in.readInt();
+		if (length < 0 || length > in.available())
+		{
+			throw new EOFException();
+		}
+
+		final byte[] b = new byte[length];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	private static void writeTime(DataOutputStream out, @Nullable Instant time) throws IOException
+	{
+		out.writeLong(time == null ? NO_TIME : time.toEpochMilli());
+	}
+
+	@Nullable
+	private static Instant readTime(DataInputStream in) throws IOException
+	{
+		long time = in.readLong();
+		return time == NO_TIME ? null : Instant.ofEpochMilli(time);
+	}
+}
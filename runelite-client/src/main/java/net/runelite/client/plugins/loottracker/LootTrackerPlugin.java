@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -38,6 +37,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -96,6 +97,7 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.PostClientTick;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.InterfaceID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -140,6 +142,7 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loottracker");
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -400,6 +403,7 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private volatile LootStore lootStore;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -490,53 +494,71 @@ public class LootTrackerPlugin extends Plugin
 			submitLoot();
 
 			this.profileKey = profileKey;
+			openLootStore(profileKey);
 
 			log.debug("Switched to profile {}", profileKey);
 
-			if (!config.syncPanel())
+			LootStore store = lootStore;
+			if (!config.syncPanel() || store == null)
 			{
 				return;
 			}
 
 			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
+			List<LootStore.Entry> entries = new ArrayList<>();
 			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			final List<LootStore.Entry> stored;
+			try
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
-
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
+				stored = store.entries();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to read loot store", ex);
+				return;
+			}
 
-				if (configLoot.last.isBefore(old))
+			for (LootStore.Entry entry : stored)
+			{
+				if (entry.getLast() == null || entry.getLast().isBefore(old))
 				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+					log.debug("Removing old loot for {} {}", entry.getType(), entry.getName());
+					removeLootConfig(entry.getType(), entry.getName());
 					continue;
 				}
 
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
+				if (drops >= MAX_DROPS && !entries.isEmpty() && entries.get(0).getLast().isAfter(entry.getLast()))
 				{
 					// fast drop
 					continue;
 				}
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+				sortedInsert(entries, entry, Comparator.comparing(LootStore.Entry::getLast));
+				drops += entry.getNumDrops();
 
 				if (drops >= MAX_DROPS)
 				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
+					LootStore.Entry top = entries.remove(0);
+					drops -= top.getNumDrops();
+				}
+			}
+
+			// only the totals which are going to be shown are read from the store
+			List<ConfigLoot> loots = new ArrayList<>(entries.size());
+			for (LootStore.Entry entry : entries)
+			{
+				try
+				{
+					// another client may have removed the total since the entries were listed
+					ConfigLoot loot = store.get(entry.getType(), entry.getName());
+					if (loot != null)
+					{
+						loots.add(loot);
+					}
+				}
+				catch (IOException ex)
+				{
+					log.warn("Unable to read loot for {} {}", entry.getType(), entry.getName(), ex);
 				}
 			}
 
@@ -566,6 +588,60 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
+	private void openLootStore(String profileKey)
+	{
+		closeLootStore();
+
+		try
+		{
+			File file = new File(LOOT_DIR, profileKey + ".dat");
+			boolean created = !file.exists();
+			LootStore store = new LootStore(file);
+			if (created)
+			{
+				migrateConfigLoot(profileKey, store);
+			}
+			lootStore = store;
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to open loot store for profile {}", profileKey, ex);
+		}
+	}
+
+	private void closeLootStore()
+	{
+		lootStore = null;
+	}
+
+	/**
+	 * Copy loot saved to the profile's config into a newly created loot store. The config copies are
+	 * left in place, as the profile config is synced to every device, where older clients still use it.
+	 */
+	private void migrateConfigLoot(String profileKey, LootStore store) throws IOException
+	{
+		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			ConfigLoot configLoot;
+
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Skipping loot with malformed json: {}", json, ex);
+				continue;
+			}
+
+			if (configLoot != null && configLoot.type != null && configLoot.name != null && configLoot.last != null)
+			{
+				store.put(configLoot);
+			}
+		}
+	}
+
 	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
 	{
 		int idx = Collections.binarySearch(list, value, c);
@@ -627,6 +703,7 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		executor.execute(this::closeLootStore);
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
@@ -1691,59 +1768,78 @@ public class LootTrackerPlugin extends Plugin
 
 	ConfigLoot getLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to get loot with no profile!");
 			return null;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
+		try
+		{
+			return store.get(type, name);
+		}
+		catch (IOException ex)
 		{
+			log.warn("Unable to read loot for {} {}", type, name, ex);
 			return null;
 		}
-
-		return gson.fromJson(json, ConfigLoot.class);
 	}
 
 	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to set loot with no profile!");
 			return;
 		}
 
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		try
+		{
+			store.put(loot);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save loot for {} {}", type, name, ex);
+		}
 	}
 
 	void removeLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to remove loot with no profile!");
 			return;
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		try
+		{
+			store.remove(type, name);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to remove loot for {} {}", type, name, ex);
+		}
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to clear loot with no profile!");
 			return;
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+		try
+		{
+			store.clear();
+		}
+		catch (IOException ex)
 		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
+			log.warn("Unable to clear loot", ex);
 		}
 	}
 }
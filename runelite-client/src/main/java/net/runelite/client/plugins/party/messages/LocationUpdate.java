@@ -24,13 +24,31 @@
  */
 package net.runelite.client.plugins.party.messages;
 
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
 import lombok.ToString;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.PartyMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @ToString(onlyExplicitlyIncluded = true)
 public class LocationUpdate extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<LocationUpdate> CODEC = new PartyMessageCodec<LocationUpdate>()
+	{
+		@Override
+		public void encode(LocationUpdate message, ByteArrayDataOutput out)
+		{
+			out.writeInt(message.c);
+		}
+
+		@Override
+		public LocationUpdate decode(ByteArrayDataInput in)
+		{
+			return new LocationUpdate(in.readInt());
+		}
+	};
+
 	private final int c;
 
 	public LocationUpdate(WorldPoint worldPoint)
@@ -38,6 +56,11 @@ public class LocationUpdate extends PartyMemberMessage
 		c = (worldPoint.getPlane() << 28) | (worldPoint.getX() << 14) | (worldPoint.getY());
 	}
 
+	private LocationUpdate(int c)
+	{
+		this.c = c;
+	}
+
 	@ToString.Include
 	public WorldPoint getWorldPoint()
 	{
@@ -24,12 +24,15 @@
  */
 package net.runelite.client.plugins.party.messages;
 
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
 import com.google.gson.annotations.SerializedName;
 import java.awt.Color;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import net.runelite.client.party.PartyMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Data
@@ -38,6 +41,80 @@ import net.runelite.client.party.messages.PartyMemberMessage;
 @EqualsAndHashCode(callSuper = true)
 public class StatusUpdate extends PartyMemberMessage
 {
+	/**
+	 * Writes a bitmask of the fields which are set, followed by the set fields
+	 */
+	public static final PartyMessageCodec<StatusUpdate> CODEC = new PartyMessageCodec<StatusUpdate>()
+	{
+		@Override
+		public void encode(StatusUpdate message, ByteArrayDataOutput out)
+		{
+			Integer[] ints = message.ints();
+			int mask = 0;
+			if (message.characterName != null)
+			{
+				mask |= 1;
+			}
+			for (int i = 0; i < ints.length; ++i)
+			{
+				if (ints[i] != null)
+				{
+					mask |= 2 << i;
+				}
+			}
+			if (message.vengeanceActive != null)
+			{
+				mask |= 0x80;
+			}
+			if (message.memberColor != null)
+			{
+				mask |= 0x100;
+			}
+
+			out.writeShort(mask);
+			if (message.characterName != null)
+			{
+				out.writeUTF(message.characterName);
+			}
+			for (Integer value : ints)
+			{
+				if (value != null)
+				{
+					out.writeInt(value);
+				}
+			}
+			if (message.vengeanceActive != null)
+			{
+				out.writeBoolean(message.vengeanceActive);
+			}
+			if (message.memberColor != null)
+			{
+				out.writeInt(message.memberColor.getRGB());
+			}
+		}
+
+		@Override
+		public StatusUpdate decode(ByteArrayDataInput in)
+		{
+			int mask = in.readUnsignedShort();
+			StatusUpdate message = new StatusUpdate();
+			message.characterName = (mask & 1) != 0 ? in.readUTF() : null;
+			message.healthCurrent = readInt(in, mask, 2);
+			message.healthMax = readInt(in, mask, 4);
+			message.prayerCurrent = readInt(in, mask, 8);
+			message.prayerMax = readInt(in, mask, 0x10);
+			message.runEnergy = readInt(in, mask, 0x20);
+			message.specEnergy = readInt(in, mask, 0x40);
+			message.vengeanceActive = (mask & 0x80) != 0 ? in.readBoolean() : null;
+			message.memberColor = (mask & 0x100) != 0 ? new Color(in.readInt(), true) : null;
+			return message;
+		}
+
+		private Integer readInt(ByteArrayDataInput in, int mask, int bit)
+		{
+			return (mask & bit) != 0 ? in.readInt() : null;
+		}
+	};
 
 	// we use boxed fields to null out properties that haven't changed
 	@SerializedName("n")
@@ -67,4 +144,9 @@ public class StatusUpdate extends PartyMemberMessage
 	@SerializedName("c")
 	private Color memberColor = null;
 
+	// the integer fields in the order they are encoded
+	private Integer[] ints()
+	{
+		return new Integer[]{healthCurrent, healthMax, prayerCurrent, prayerMax, runEnergy, specEnergy};
+	}
 }
@@ -24,14 +24,35 @@
  */
 package net.runelite.client.plugins.party.messages;
 
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.PartyMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class TilePing extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<TilePing> CODEC = new PartyMessageCodec<TilePing>()
+	{
+		@Override
+		public void encode(TilePing message, ByteArrayDataOutput out)
+		{
+			WorldPoint point = message.point;
+			out.writeShort(point.getX());
+			out.writeShort(point.getY());
+			out.writeByte(point.getPlane());
+		}
+
+		@Override
+		public TilePing decode(ByteArrayDataInput in)
+		{
+			return new TilePing(new WorldPoint(in.readUnsignedShort(), in.readUnsignedShort(), in.readUnsignedByte()));
+		}
+	};
+
 	private final WorldPoint point;
 }
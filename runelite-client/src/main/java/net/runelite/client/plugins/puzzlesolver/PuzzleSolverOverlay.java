@@ -34,8 +34,10 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
@@ -51,8 +53,8 @@ import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
-import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.ParallelIDAStar;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -71,11 +73,16 @@ public class PuzzleSolverOverlay extends Overlay
 	private static final int PUZZLE_TILE_SIZE = 39;
 	private static final int DOT_MARKER_SIZE = 16;
 
+	/**
+	 * Threads to solve with, including the thread running the solver, which searches alongside the others
+	 */
+	private static final int SOLVER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
 	private final Client client;
 	private final PuzzleSolverConfig config;
-	private final ScheduledExecutorService executorService;
 	private final SpriteManager spriteManager;
 
+	private ExecutorService solverExecutor;
 	private PuzzleSolver solver;
 	private Future<?> solverFuture;
 	private int[] cachedItems;
@@ -85,14 +92,13 @@ public class PuzzleSolverOverlay extends Overlay
 	private BufferedImage rightArrow;
 
 	@Inject
-	public PuzzleSolverOverlay(Client client, PuzzleSolverConfig config, ScheduledExecutorService executorService, SpriteManager spriteManager)
+	public PuzzleSolverOverlay(Client client, PuzzleSolverConfig config, SpriteManager spriteManager)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(PRIORITY_HIGH);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
 		this.client = client;
 		this.config = config;
-		this.executorService = executorService;
 		this.spriteManager = spriteManager;
 	}
 
@@ -434,18 +440,51 @@ public class PuzzleSolverOverlay extends Overlay
 			solverFuture.cancel(true);
 		}
 
+		if (solverExecutor == null)
+		{
+			AtomicInteger threadNumber = new AtomicInteger();
+			solverExecutor = Executors.newFixedThreadPool(SOLVER_THREADS, r ->
+			{
+				Thread thread = new Thread(r, "Puzzle Solver " + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
 		PuzzleState puzzleState = new PuzzleState(items);
+		ParallelIDAStar pathfinder = new ParallelIDAStar(solverExecutor, SOLVER_THREADS);
 
 		if (useNormalSolver)
 		{
-			solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), puzzleState);
+			solver = new PuzzleSolver(pathfinder, puzzleState);
 		}
 		else
 		{
-			solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance()), puzzleState);
+			solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance(), pathfinder), puzzleState);
 		}
 
-		solverFuture = executorService.submit(solver);
+		solverFuture = solverExecutor.submit(solver);
+	}
+
+	/**
+	 * Stops the solver and its threads. Must be called on the client thread, which starts the solver
+	 * from {@link #render(Graphics2D)}.
+	 */
+	void shutDown()
+	{
+		if (solverFuture != null)
+		{
+			solverFuture.cancel(true);
+		}
+
+		if (solverExecutor != null)
+		{
+			solverExecutor.shutdownNow();
+			solverExecutor = null;
+		}
+		solver = null;
+		solverFuture = null;
+		cachedItems = null;
 	}
 
 	private BufferedImage getDownArrow()
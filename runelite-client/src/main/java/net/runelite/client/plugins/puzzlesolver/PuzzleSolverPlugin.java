@@ -38,6 +38,7 @@ import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.InterfaceID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetUtil;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
@@ -67,6 +68,9 @@ public class PuzzleSolverPlugin extends Plugin
 	@Inject
 	private PuzzleSolverOverlay overlay;
 
+	@Inject
+	private ClientThread clientThread;
+
 	@Inject
 	private Client client;
 
@@ -85,6 +89,8 @@ public class PuzzleSolverPlugin extends Plugin
 	protected void shutDown() throws Exception
 	{
 		overlayManager.remove(overlay);
+		// the overlay solves from render() on the client thread, so stop the solver there too
+		clientThread.invokeLater(overlay::shutDown);
 	}
 
 	@Provides
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * The manhattan distance plus linear conflicts. Two tiles are in linear conflict when both are in
+ * their goal row or column but in the wrong order, so one of them must leave the line and come
+ * back, taking two more moves than the manhattan distance accounts for.
+ */
+public class LinearConflict implements Heuristic
+{
+	@Override
+	public int computeValue(PuzzleState state)
+	{
+		int value = 0;
+
+		for (int x = 0; x < DIMENSION; x++)
+		{
+			for (int y = 0; y < DIMENSION; y++)
+			{
+				int piece = state.getPiece(x, y);
+
+				if (piece == BLANK_TILE_VALUE)
+				{
+					continue;
+				}
+
+				value += Math.abs(x - piece % DIMENSION) + Math.abs(y - piece / DIMENSION);
+			}
+		}
+
+		int[] line = new int[DIMENSION];
+		int[] scratch = new int[DIMENSION];
+
+		for (int y = 0; y < DIMENSION; y++)
+		{
+			int count = 0;
+			for (int x = 0; x < DIMENSION; x++)
+			{
+				int piece = state.getPiece(x, y);
+				if (piece != BLANK_TILE_VALUE && piece / DIMENSION == y)
+				{
+					line[count++] = piece % DIMENSION;
+				}
+			}
+			value += 2 * (count - longestIncreasing(line, count, scratch));
+		}
+
+		for (int x = 0; x < DIMENSION; x++)
+		{
+			int count = 0;
+			for (int y = 0; y < DIMENSION; y++)
+			{
+				int piece = state.getPiece(x, y);
+				if (piece != BLANK_TILE_VALUE && piece % DIMENSION == x)
+				{
+					line[count++] = piece / DIMENSION;
+				}
+			}
+			value += 2 * (count - longestIncreasing(line, count, scratch));
+		}
+
+		return value;
+	}
+
+	/**
+	 * Compute the length of the longest increasing subsequence of the goal positions of the
+	 * tiles in a line. Every other tile has to leave the line to let the rest pass.
+	 *
+	 * @param values goal positions, in the order the tiles are in the line
+	 * @param count number of values
+	 * @param scratch space for at least {@code count} values
+	 */
+	public static int longestIncreasing(int[] values, int count, int[] scratch)
+	{
+		int longest = 0;
+		for (int i = 0; i < count; i++)
+		{
+			int length = 1;
+			for (int j = 0; j < i; j++)
+			{
+				if (values[j] < values[i] && scratch[j] + 1 > length)
+				{
+					length = scratch[j] + 1;
+				}
+			}
+			scratch[i] = length;
+			longest = Math.max(longest, length);
+		}
+		return longest;
+	}
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
+
+/**
+ * A depth first, bounded search over a single board which is modified in place as moves are
+ * made and unmade, so searching does not allocate. The heuristic is the manhattan distance
+ * plus linear conflicts, which is kept up to date as tiles move.
+ */
+final class BoardSearch
+{
+	/**
+	 * Returned by {@link #search(int, int, int)} when the goal was found
+	 */
+	static final int FOUND = -1;
+
+	private static final int TILES = DIMENSION * DIMENSION;
+	private static final int MAX_DEPTH = 256;
+	private static final int STOP_CHECK_MASK = 0xfff;
+	private static final byte BLANK = BLANK_TILE_VALUE;
+
+	/**
+	 * Positions the blank can move to from each position
+	 */
+	private static final int[][] NEIGHBOURS = new int[TILES][];
+
+	/**
+	 * Manhattan distance of each tile from each position
+	 */
+	private static final int[][] DISTANCE = new int[TILES][TILES];
+
+	static
+	{
+		for (int pos = 0; pos < TILES; pos++)
+		{
+			int x = pos % DIMENSION;
+			int y = pos / DIMENSION;
+
+			int[] neighbours = new int[4];
+			int count = 0;
+			if (x > 0)
+			{
+				neighbours[count++] = pos - 1;
+			}
+			if (x < DIMENSION - 1)
+			{
+				neighbours[count++] = pos + 1;
+			}
+			if (y > 0)
+			{
+				neighbours[count++] = pos - DIMENSION;
+			}
+			if (y < DIMENSION - 1)
+			{
+				neighbours[count++] = pos + DIMENSION;
+			}
+
+			NEIGHBOURS[pos] = new int[count];
+			System.arraycopy(neighbours, 0, NEIGHBOURS[pos], 0, count);
+
+			for (int tile = 0; tile < TILES; tile++)
+			{
+				DISTANCE[tile][pos] = Math.abs(x - tile % DIMENSION) + Math.abs(y - tile / DIMENSION);
+			}
+		}
+	}
+
+	private final byte[] tiles = new byte[TILES];
+	private int blank;
+
+	private int manhattan;
+	private final int[] rowConflicts = new int[DIMENSION];
+	private final int[] columnConflicts = new int[DIMENSION];
+	private int conflicts;
+
+	/**
+	 * Blank position after each move of the current path
+	 */
+	private final int[] path = new int[MAX_DEPTH];
+	private int pathLength;
+
+	private final AtomicBoolean stop;
+	private int nodes;
+
+	private final int[] line = new int[DIMENSION];
+	private final int[] scratch = new int[DIMENSION];
+
+	BoardSearch(AtomicBoolean stop)
+	{
+		this.stop = stop;
+	}
+
+	/**
+	 * Set the board, and recompute the heuristic from scratch
+	 */
+	void reset(byte[] board)
+	{
+		System.arraycopy(board, 0, tiles, 0, TILES);
+		pathLength = 0;
+
+		manhattan = 0;
+		for (int pos = 0; pos < TILES; pos++)
+		{
+			if (tiles[pos] == BLANK)
+			{
+				blank = pos;
+			}
+			else
+			{
+				manhattan += DISTANCE[tiles[pos]][pos];
+			}
+		}
+
+		conflicts = 0;
+		for (int i = 0; i < DIMENSION; i++)
+		{
+			rowConflicts[i] = rowConflicts(i);
+			columnConflicts[i] = columnConflicts(i);
+			conflicts += rowConflicts[i] + columnConflicts[i];
+		}
+	}
+
+	/**
+	 * Get the positions the blank can move to from a position
+	 */
+	static int[] neighbours(int pos)
+	{
+		return NEIGHBOURS[pos];
+	}
+
+	int heuristic()
+	{
+		return manhattan + 2 * conflicts;
+	}
+
+	int getBlank()
+	{
+		return blank;
+	}
+
+	int getPathLength()
+	{
+		return pathLength;
+	}
+
+	int getPath(int i)
+	{
+		return path[i];
+	}
+
+	/**
+	 * Slide the tile at {@code to} into the blank
+	 */
+	void move(int to)
+	{
+		int from = blank;
+		byte tile = tiles[to];
+
+		tiles[from] = tile;
+		tiles[to] = BLANK;
+		blank = to;
+
+		manhattan += DISTANCE[tile][from] - DISTANCE[tile][to];
+
+		// a tile moving along a row keeps its order in the row, and changes column
+		if (from / DIMENSION == to / DIMENSION)
+		{
+			updateColumn(from % DIMENSION);
+			updateColumn(to % DIMENSION);
+		}
+		else
+		{
+			updateRow(from / DIMENSION);
+			updateRow(to / DIMENSION);
+		}
+	}
+
+	/**
+	 * Search below the current board for the goal
+	 *
+	 * @param g the number of moves made to reach the current board
+	 * @param bound the maximum total cost to search to
+	 * @param previous the blank position before the last move, which is not moved back to
+	 * @return {@link #FOUND}, or the lowest total cost above the bound, or {@link Integer#MAX_VALUE}
+	 * if the search was stopped
+	 */
+	int search(int g, int bound, int previous)
+	{
+		int h = heuristic();
+		int f = g + h;
+
+		if (f > bound)
+		{
+			return f;
+		}
+
+		if (h == 0)
+		{
+			return FOUND;
+		}
+
+		if ((++nodes & STOP_CHECK_MASK) == 0 && (stop.get() || Thread.currentThread().isInterrupted()))
+		{
+			stop.set(true);
+			return Integer.MAX_VALUE;
+		}
+
+		if (pathLength == MAX_DEPTH)
+		{
+			return Integer.MAX_VALUE;
+		}
+
+		int min = Integer.MAX_VALUE;
+		int from = blank;
+
+		for (int next : NEIGHBOURS[from])
+		{
+			if (next == previous)
+			{
+				continue;
+			}
+
+			move(next);
+			path[pathLength++] = next;
+
+			int t = search(g + 1, bound, from);
+
+			if (t == FOUND)
+			{
+				return FOUND;
+			}
+
+			--pathLength;
+			move(from);
+
+			if (t < min)
+			{
+				min = t;
+			}
+		}
+
+		return min;
+	}
+
+	private void updateRow(int row)
+	{
+		int value = rowConflicts(row);
+		conflicts += value - rowConflicts[row];
+		rowConflicts[row] = value;
+	}
+
+	private void updateColumn(int column)
+	{
+		int value = columnConflicts(column);
+		conflicts += value - columnConflicts[column];
+		columnConflicts[column] = value;
+	}
+
+	private int rowConflicts(int row)
+	{
+		int count = 0;
+		for (int pos = row * DIMENSION, end = pos + DIMENSION; pos < end; pos++)
+		{
+			int tile = tiles[pos];
+			if (tile != BLANK && tile / DIMENSION == row)
+			{
+				line[count++] = tile % DIMENSION;
+			}
+		}
+		return count - LinearConflict.longestIncreasing(line, count, scratch);
+	}
+
+	private int columnConflicts(int column)
+	{
+		int count = 0;
+		for (int pos = column; pos < TILES; pos += DIMENSION)
+		{
+			int tile = tiles[pos];
+			if (tile != BLANK && tile % DIMENSION == column)
+			{
+				line[count++] = tile / DIMENSION;
+			}
+		}
+		return count - LinearConflict.longestIncreasing(line, count, scratch);
+	}
+}
@@ -41,10 +41,21 @@ public class IDAStarMM extends IDAStar
 	private final List<PuzzleState> stateList = new ArrayList<>();
 	private final List<List<Integer>> validRowNumbers = new ArrayList<>();
 	private final List<List<Integer>> validColumnNumbers = new ArrayList<>();
+	private final Pathfinder finisher;
 
 	public IDAStarMM(Heuristic heuristic)
+	{
+		this(heuristic, null);
+	}
+
+	/**
+	 * @param heuristic heuristic for the final search, if no finisher is given
+	 * @param finisher pathfinder for the final search, once the puzzle has been reduced to 3x4
+	 */
+	public IDAStarMM(Heuristic heuristic, Pathfinder finisher)
 	{
 		super(heuristic);
+		this.finisher = finisher;
 
 		//Add valid numbers for rows and columns
 		validRowNumbers.add(Arrays.asList(0, 1, 2, 3, 4));
@@ -73,7 +84,12 @@ public class IDAStarMM extends IDAStar
 		stateList.remove(stateList.size() - 1);
 
 		//Pathfinder for 4x4
-		path.addAll(super.computePath(currentState));
+		List<PuzzleState> finish = finisher != null ? finisher.computePath(currentState) : super.computePath(currentState);
+		if (finish == null)
+		{
+			return null;
+		}
+		path.addAll(finish);
 
 		path.addAll(0, stateList);
 
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
+
+/**
+ * An implementation of the IDA* algorithm which splits the search tree below the start state
+ * into subtrees, and searches them in parallel. Each thread searches with a {@link BoardSearch},
+ * so the search does not allocate.
+ * <p>
+ * The thread calling {@link #computePath(PuzzleState)} searches too, and the executor should
+ * have a thread for each helper. Interrupting the calling thread stops the search, and the
+ * path is then null.
+ */
+public class ParallelIDAStar extends Pathfinder
+{
+	/**
+	 * Depth of the subtrees which are searched in parallel. Solutions shorter than this are
+	 * found while splitting.
+	 */
+	private static final int SPLIT_DEPTH = 6;
+
+	private final ExecutorService executor;
+	private final int helpers;
+
+	/**
+	 * @param executor executor to run the helper searches on
+	 * @param threads number of threads to search with, including the calling thread
+	 */
+	public ParallelIDAStar(ExecutorService executor, int threads)
+	{
+		super(new LinearConflict());
+		this.executor = executor;
+		this.helpers = threads - 1;
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState root)
+	{
+		byte[] board = new byte[DIMENSION * DIMENSION];
+		for (int i = 0; i < board.length; i++)
+		{
+			board[i] = (byte) root.getPiece(i % DIMENSION, i / DIMENSION);
+		}
+
+		AtomicBoolean stop = new AtomicBoolean();
+		int[] moves = solve(board, stop);
+		if (moves == null)
+		{
+			return null;
+		}
+
+		List<PuzzleState> path = new ArrayList<>(moves.length + 1);
+		PuzzleState state = root;
+		path.add(state);
+		for (int move : moves)
+		{
+			int blank = state.getEmptyPiece();
+			state = state.swap(blank % DIMENSION, blank / DIMENSION, move % DIMENSION, move / DIMENSION);
+			path.add(state);
+		}
+		return path;
+	}
+
+	/**
+	 * @return the blank position after each move of an optimal solution, or null if the search was stopped
+	 */
+	private int[] solve(byte[] board, AtomicBoolean stop)
+	{
+		BoardSearch search = new BoardSearch(stop);
+		search.reset(board);
+
+		List<Subtree> frontier = new ArrayList<>();
+		int[] shortest = split(search, new int[SPLIT_DEPTH], 0, -1, frontier);
+		if (shortest != null)
+		{
+			return shortest;
+		}
+
+		int bound = search.heuristic();
+		while (true)
+		{
+			final int iterationBound = bound;
+			final AtomicInteger next = new AtomicInteger();
+			final AtomicReference<int[]> solution = new AtomicReference<>();
+
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < Math.min(helpers, frontier.size() - 1); i++)
+			{
+				futures.add(executor.submit(() -> searchFrontier(board, frontier, next, iterationBound, stop, solution)));
+			}
+
+			int min = searchFrontier(board, frontier, next, bound, stop, solution);
+			for (Future<Integer> future : futures)
+			{
+				try
+				{
+					min = Math.min(min, future.get());
+				}
+				catch (InterruptedException ex)
+				{
+					stop.set(true);
+					Thread.currentThread().interrupt();
+				}
+				catch (ExecutionException ex)
+				{
+					stop.set(true);
+					throw new RuntimeException(ex.getCause());
+				}
+			}
+
+			if (solution.get() != null)
+			{
+				return solution.get();
+			}
+
+			if (stop.get() || min == Integer.MAX_VALUE)
+			{
+				return null;
+			}
+
+			bound = min;
+		}
+	}
+
+	/**
+	 * Collect the move sequences of the subtrees to search in parallel.
+	 *
+	 * @return the moves of the shortest solution shorter than the split depth, if there is one
+	 */
+	private static int[] split(BoardSearch search, int[] moves, int depth, int previous, List<Subtree> frontier)
+	{
+		if (search.heuristic() == 0)
+		{
+			int[] solution = new int[depth];
+			System.arraycopy(moves, 0, solution, 0, depth);
+			return solution;
+		}
+
+		if (depth == moves.length)
+		{
+			frontier.add(new Subtree(moves.clone(), depth + search.heuristic()));
+			return null;
+		}
+
+		int[] shortest = null;
+		int from = search.getBlank();
+		for (int to : BoardSearch.neighbours(from))
+		{
+			if (to == previous)
+			{
+				continue;
+			}
+
+			search.move(to);
+			moves[depth] = to;
+
+			int[] solution = split(search, moves, depth + 1, from, frontier);
+			if (solution != null && (shortest == null || solution.length < shortest.length))
+			{
+				shortest = solution;
+			}
+
+			search.move(from);
+		}
+		return shortest;
+	}
+
+	/**
+	 * Take subtrees off the frontier and search them until the frontier is exhausted or a solution is found
+	 *
+	 * @return the lowest total cost above the bound of the searched subtrees
+	 */
+	private static int searchFrontier(byte[] board, List<Subtree> frontier, AtomicInteger next, int bound,
+		AtomicBoolean stop, AtomicReference<int[]> solution)
+	{
+		BoardSearch search = new BoardSearch(stop);
+		int min = Integer.MAX_VALUE;
+
+		int i;
+		while (!stop.get() && (i = next.getAndIncrement()) < frontier.size())
+		{
+			Subtree subtree = frontier.get(i);
+			if (subtree.cost > bound)
+			{
+				min = Math.min(min, subtree.cost);
+				continue;
+			}
+
+			int[] moves = subtree.moves;
+			search.reset(board);
+			for (int move : moves)
+			{
+				search.move(move);
+			}
+
+			int t = search.search(moves.length, bound, moves.length > 1 ? moves[moves.length - 2] : blankOf(board));
+			if (t == BoardSearch.FOUND)
+			{
+				int[] path = new int[moves.length + search.getPathLength()];
+				System.arraycopy(moves, 0, path, 0, moves.length);
+				for (int j = 0; j < search.getPathLength(); j++)
+				{
+					path[moves.length + j] = search.getPath(j);
+				}
+
+				solution.compareAndSet(null, path);
+				stop.set(true);
+				break;
+			}
+
+			min = Math.min(min, t);
+		}
+
+		return min;
+	}
+
+	private static int blankOf(byte[] board)
+	{
+		for (int i = 0; i < board.length; i++)
+		{
+			if (board[i] < 0)
+			{
+				return i;
+			}
+		}
+		throw new IllegalStateException("board has no blank");
+	}
+
+	@RequiredArgsConstructor
+	private static final class Subtree
+	{
+		private final int[] moves;
+		/**
+		 * Total cost of the root of the subtree
+		 */
+		private final int cost;
+	}
+}
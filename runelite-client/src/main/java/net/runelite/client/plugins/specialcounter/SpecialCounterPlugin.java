@@ -166,7 +166,7 @@ public class SpecialCounterPlugin extends Plugin
 	protected void startUp()
 	{
 		overlayManager.add(playerInfoDropOverlay);
-		wsClient.registerMessage(SpecialCounterUpdate.class);
+		wsClient.registerMessage(SpecialCounterUpdate.class, SpecialCounterUpdate.CODEC);
 		currentWorld = -1;
 		specialPercentage = -1;
 		lastHitPointsExperience = -1;
@@ -24,14 +24,36 @@
  */
 package net.runelite.client.plugins.specialcounter;
 
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import net.runelite.client.party.PartyMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class SpecialCounterUpdate extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<SpecialCounterUpdate> CODEC = new PartyMessageCodec<SpecialCounterUpdate>()
+	{
+		@Override
+		public void encode(SpecialCounterUpdate message, ByteArrayDataOutput out)
+		{
+			out.writeInt(message.npcIndex);
+			out.writeUTF(message.weapon.name());
+			out.writeInt(message.hit);
+			out.writeInt(message.world);
+			out.writeInt(message.playerId);
+		}
+
+		@Override
+		public SpecialCounterUpdate decode(ByteArrayDataInput in)
+		{
+			return new SpecialCounterUpdate(in.readInt(), SpecialWeapon.valueOf(in.readUTF()), in.readInt(), in.readInt(), in.readInt());
+		}
+	};
+
 	private final int npcIndex;
 	private final SpecialWeapon weapon;
 	private final int hit;
@@ -31,6 +31,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.Experience;
@@ -140,6 +141,12 @@ class XpInfoBoxOverlay extends OverlayPanel
 		return super.render(graphics);
 	}
 
+	@Override
+	protected Object getPanelContentKey()
+	{
+		return Arrays.asList(config.onScreenDisplayMode(), config.onScreenDisplayModeBottom(), plugin.getSkillSnapshot(skill));
+	}
+
 	@Override
 	public String getName()
 	{
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import net.runelite.client.util.CallableExceptionLogger;
+import net.runelite.client.util.RunnableExceptionLogger;
+
+/**
+ * Runs background tasks on separate lanes, so slow network requests and expensive computations
+ * do not hold up each other or the shared {@link java.util.concurrent.ScheduledExecutorService}.
+ * Tasks waiting on the {@link Lane#IO} and {@link Lane#CPU} lanes run in {@link Priority} order.
+ */
+public class TaskExecutor
+{
+	public enum Lane
+	{
+		/**
+		 * The shared single threaded scheduled executor. Tasks run in submission order, and
+		 * priorities are ignored.
+		 */
+		TIMER,
+		/**
+		 * Tasks which mostly wait on the network or disk
+		 */
+		IO,
+		/**
+		 * Tasks which mostly compute, such as image encoding
+		 */
+		CPU,
+	}
+
+	public enum Priority
+	{
+		HIGH,
+		NORMAL,
+		LOW,
+	}
+
+	private static final int IO_THREADS = 4;
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private final ScheduledThreadPoolExecutor timer;
+	private final ThreadPoolExecutor io;
+	private final ThreadPoolExecutor cpu;
+	private final AtomicLong sequence = new AtomicLong();
+
+	public TaskExecutor(ScheduledThreadPoolExecutor timer)
+	{
+		this(timer, IO_THREADS, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+	}
+
+	TaskExecutor(ScheduledThreadPoolExecutor timer, int ioThreads, int cpuThreads)
+	{
+		this.timer = timer;
+		this.io = createPool("IO", ioThreads);
+		this.cpu = createPool("CPU", cpuThreads);
+	}
+
+	private static ThreadPoolExecutor createPool(String name, int threads)
+	{
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+			new PriorityBlockingQueue<>(), r ->
+		{
+			Thread thread = new Thread(r, "Task " + name + " " + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	/**
+	 * Run a task on a lane. Uncaught exceptions are logged.
+	 *
+	 * @param lane the lane to run the task on
+	 * @param priority the priority of the task relative to other waiting tasks on the lane
+	 * @param command the task
+	 */
+	public void execute(Lane lane, Priority priority, Runnable command)
+	{
+		Runnable task = RunnableExceptionLogger.wrap(command);
+		if (lane == Lane.TIMER)
+		{
+			timer.execute(task);
+		}
+		else
+		{
+			pool(lane).execute(new PrioritizedTask(task, priority, sequence.getAndIncrement()));
+		}
+	}
+
+	/**
+	 * Run a task on a lane. Uncaught exceptions are logged, and also complete the returned future.
+	 *
+	 * @param lane the lane to run the task on
+	 * @param priority the priority of the task relative to other waiting tasks on the lane
+	 * @param callable the task
+	 * @return a future for the result of the task
+	 */
+	public <T> Future<T> submit(Lane lane, Priority priority, Callable<T> callable)
+	{
+		FutureTask<T> task = new FutureTask<>(CallableExceptionLogger.wrap(callable));
+		execute(lane, priority, task);
+		return task;
+	}
+
+	/**
+	 * Run a task on a lane after a delay. The delay is kept by the timer lane, and the task
+	 * queues on its lane once the delay has elapsed.
+	 *
+	 * @return a future which can cancel the task before it has been queued on its lane
+	 */
+	public ScheduledFuture<?> schedule(Lane lane, Priority priority, Runnable command, long delay, TimeUnit unit)
+	{
+		if (lane == Lane.TIMER)
+		{
+			return timer.schedule(RunnableExceptionLogger.wrap(command), delay, unit);
+		}
+		return timer.schedule(() -> execute(lane, priority, command), delay, unit);
+	}
+
+	/**
+	 * Get the number of tasks waiting on a lane. For the timer lane this includes delayed
+	 * and periodic tasks which are not yet due.
+	 */
+	public int getQueueDepth(Lane lane)
+	{
+		return lane == Lane.TIMER ? timer.getQueue().size() : pool(lane).getQueue().size();
+	}
+
+	/**
+	 * Get the approximate number of tasks currently running on a lane
+	 */
+	public int getActiveCount(Lane lane)
+	{
+		return lane == Lane.TIMER ? timer.getActiveCount() : pool(lane).getActiveCount();
+	}
+
+	/**
+	 * Get the approximate number of tasks which have finished running on a lane
+	 */
+	public long getCompletedTaskCount(Lane lane)
+	{
+		return lane == Lane.TIMER ? timer.getCompletedTaskCount() : pool(lane).getCompletedTaskCount();
+	}
+
+	private ThreadPoolExecutor pool(Lane lane)
+	{
+		return lane == Lane.IO ? io : cpu;
+	}
+
+	@RequiredArgsConstructor
+	private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask>
+	{
+		private final Runnable runnable;
+		private final Priority priority;
+		private final long sequence;
+
+		@Override
+		public void run()
+		{
+			runnable.run();
+		}
+
+		@Override
+		public int compareTo(PrioritizedTask other)
+		{
+			int cmp = priority.compareTo(other.priority);
+			return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -205,6 +205,24 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Key identifying the content this overlay renders, for overlays whose content rarely changes. While the
+	 * key, font and preferred size are unchanged, an image of the previous render is drawn instead of calling
+	 * {@link #render(java.awt.Graphics2D)}. Overlays which animate or depend on state not captured by the key
+	 * should not provide one.
+	 * <p>
+	 * The image is the size of the overlay's bounds, so anything drawn outside of them is clipped. Side
+	 * effects of rendering, such as adding tooltips or tracking the hovered component, do not happen while
+	 * the image is drawn, so overlays should return null while they need them, eg. while hovered.
+	 *
+	 * @return the content key, or null to render every frame
+	 */
+	@Nullable
+	public Object getContentKey()
+	{
+		return null;
+	}
+
 	/**
 	 * Called when an overlay is dragged onto this, if dragTargetable is true.
 	 * Return true to consume the mouse event and prevent the other
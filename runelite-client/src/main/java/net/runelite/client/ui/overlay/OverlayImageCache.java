@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Images of the last render of overlays which provide a {@link Overlay#getContentKey() content key}.
+ * <p>
+ * When the key of an overlay changes the overlay is rendered directly. If the key is unchanged on the
+ * next frame the overlay is rendered once more into an image, which is then drawn in place of rendering
+ * the overlay until its key, font or preferred size changes.
+ */
+class OverlayImageCache
+{
+	private static class RetainedImage
+	{
+		private final Object contentKey;
+		private final Font font;
+		private final Dimension preferredSize;
+		private BufferedImage image;
+		private Dimension dimension;
+
+		RetainedImage(Object contentKey, Font font, @Nullable Dimension preferredSize)
+		{
+			this.contentKey = contentKey;
+			this.font = font;
+			this.preferredSize = preferredSize == null ? null : new Dimension(preferredSize);
+		}
+
+		boolean matches(Object contentKey, Font font, @Nullable Dimension preferredSize)
+		{
+			return this.contentKey.equals(contentKey)
+				&& this.font.equals(font)
+				&& Objects.equals(this.preferredSize, preferredSize);
+		}
+	}
+
+	// overlays are only weakly referenced so removed overlays don't have to be evicted
+	private final Map<Overlay, RetainedImage> images = new WeakHashMap<>();
+
+	/**
+	 * Renders the overlay, or draws the image of its previous render if its content is unchanged.
+	 * The graphics must already be translated to the overlay's location.
+	 *
+	 * @param overlay the overlay
+	 * @param graphics graphics to draw to
+	 * @param contentKey the overlay's current content key
+	 * @return the overlay dimension
+	 */
+	@Nullable
+	Dimension render(Overlay overlay, Graphics2D graphics, Object contentKey)
+	{
+		final Font font = graphics.getFont();
+		final Dimension preferredSize = overlay.getPreferredSize();
+
+		RetainedImage retained = images.get(overlay);
+		if (retained == null || !retained.matches(contentKey, font, preferredSize))
+		{
+			images.put(overlay, new RetainedImage(contentKey, font, preferredSize));
+			return overlay.render(graphics);
+		}
+
+		if (retained.image == null)
+		{
+			final Dimension size = overlay.getBounds().getSize();
+			if (size.width <= 0 || size.height <= 0)
+			{
+				return overlay.render(graphics);
+			}
+
+			final BufferedImage image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+			final Graphics2D imageGraphics = image.createGraphics();
+			final Dimension dimension;
+			try
+			{
+				imageGraphics.setRenderingHints(graphics.getRenderingHints());
+				imageGraphics.setFont(font);
+				imageGraphics.setColor(graphics.getColor());
+				imageGraphics.setStroke(graphics.getStroke());
+				dimension = overlay.render(imageGraphics);
+			}
+			finally
+			{
+				imageGraphics.dispose();
+			}
+
+			if (dimension == null || dimension.width > image.getWidth() || dimension.height > image.getHeight())
+			{
+				// the overlay grew even though its key didn't change, draw what fit and try again next frame
+				images.remove(overlay);
+				graphics.drawImage(image, 0, 0, null);
+				return dimension;
+			}
+
+			retained.image = image;
+			retained.dimension = dimension;
+		}
+
+		graphics.drawImage(retained.image, 0, 0, null);
+		return new Dimension(retained.dimension);
+	}
+}
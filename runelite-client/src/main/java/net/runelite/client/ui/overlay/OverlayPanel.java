@@ -27,6 +27,8 @@ package net.runelite.client.ui.overlay;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.util.Arrays;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.Plugin;
@@ -67,6 +69,26 @@ public abstract class OverlayPanel extends Overlay
 		setResizable(true);
 	}
 
+	/**
+	 * Key identifying the content of the panel's children, which the panel's own settings are added
+	 * to to form its {@link #getContentKey() content key}
+	 *
+	 * @return the children's content key, or null to render every frame
+	 */
+	@Nullable
+	protected Object getPanelContentKey()
+	{
+		return null;
+	}
+
+	@Nullable
+	@Override
+	public Object getContentKey()
+	{
+		final Object key = getPanelContentKey();
+		return key != null ? Arrays.asList(key, preferredColor, dynamicFont) : null;
+	}
+
 	@Override
 	public Dimension render(final Graphics2D graphics)
 	{
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Singleton;
+import lombok.Value;
+
+/**
+ * Records how long each overlay takes to render. Timings are only recorded while the profiler is enabled,
+ * and are bucketed into frames which start at each {@link net.runelite.api.events.BeforeRender}.
+ */
+@Singleton
+public class OverlayProfiler
+{
+	static final int WINDOW = 128;
+
+	@Value
+	public static class OverlayTiming
+	{
+		private final String name;
+		private final OverlayLayer layer;
+		private final long lastFrameNanos;
+		private final long p50Nanos;
+		private final long p99Nanos;
+		/**
+		 * Number of frames in the rolling window this overlay was rendered in
+		 */
+		private final int frames;
+	}
+
+	private static class Timing
+	{
+		private final long[] samples = new long[WINDOW];
+		private int count;
+		private int next;
+		private long current;
+		private boolean rendered;
+		private long lastFrame;
+
+		void endFrame()
+		{
+			lastFrame = current;
+			if (rendered)
+			{
+				samples[next] = current;
+				next = (next + 1) % WINDOW;
+				count = Math.min(count + 1, WINDOW);
+			}
+			current = 0;
+			rendered = false;
+		}
+	}
+
+	private volatile boolean enabled;
+	private final Map<Overlay, Timing> timings = new HashMap<>();
+	private final long[] currentLayerNanos = new long[OverlayLayer.values().length];
+	private final long[] lastLayerNanos = new long[OverlayLayer.values().length];
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the profiler. The recorded timings are discarded either way.
+	 *
+	 * @param enabled whether to record overlay timings
+	 */
+	public synchronized void setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+		timings.clear();
+		Arrays.fill(currentLayerNanos, 0);
+		Arrays.fill(lastLayerNanos, 0);
+	}
+
+	synchronized void record(Overlay overlay, long nanos)
+	{
+		final Timing timing = timings.computeIfAbsent(overlay, k -> new Timing());
+		timing.current += nanos;
+		timing.rendered = true;
+		currentLayerNanos[overlay.getLayer().ordinal()] += nanos;
+	}
+
+	synchronized void nextFrame()
+	{
+		for (Timing timing : timings.values())
+		{
+			timing.endFrame();
+		}
+		System.arraycopy(currentLayerNanos, 0, lastLayerNanos, 0, currentLayerNanos.length);
+		Arrays.fill(currentLayerNanos, 0);
+	}
+
+	/**
+	 * Gets the timings of each overlay, ordered by their 99th percentile frame time descending
+	 *
+	 * @return overlay timings
+	 */
+	public synchronized List<OverlayTiming> getTimings()
+	{
+		final List<OverlayTiming> result = new ArrayList<>(timings.size());
+		for (Map.Entry<Overlay, Timing> entry : timings.entrySet())
+		{
+			final Overlay overlay = entry.getKey();
+			final Timing timing = entry.getValue();
+			final long[] sorted = Arrays.copyOf(timing.samples, timing.count);
+			Arrays.sort(sorted);
+			result.add(new OverlayTiming(
+				overlay.getName(),
+				overlay.getLayer(),
+				timing.lastFrame,
+				percentile(sorted, 0.50),
+				percentile(sorted, 0.99),
+				timing.count));
+		}
+		result.sort(Comparator.comparingLong(OverlayTiming::getP99Nanos).reversed());
+		return result;
+	}
+
+	/**
+	 * Gets the time spent rendering the overlays of each layer during the last frame.
+	 * Overlays drawn after interfaces or widget layers are counted in their own layer, usually {@link OverlayLayer#MANUAL}.
+	 *
+	 * @return time spent in each layer
+	 */
+	public synchronized Map<OverlayLayer, Long> getLayerTimings()
+	{
+		final Map<OverlayLayer, Long> result = new EnumMap<>(OverlayLayer.class);
+		for (OverlayLayer layer : OverlayLayer.values())
+		{
+			result.put(layer, lastLayerNanos[layer.ordinal()]);
+		}
+		return result;
+	}
+
+	private static long percentile(long[] sorted, double p)
+	{
+		return sorted.length == 0 ? 0 : sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)];
+	}
+}
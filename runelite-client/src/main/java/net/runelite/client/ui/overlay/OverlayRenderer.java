@@ -95,6 +95,8 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final OverlayProfiler overlayProfiler;
+	private final OverlayImageCache overlayImageCache = new OverlayImageCache();
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -126,7 +128,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final OverlayProfiler overlayProfiler
 	)
 	{
 		this.client = client;
@@ -135,6 +138,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.overlayProfiler = overlayProfiler;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -216,6 +220,11 @@ public class OverlayRenderer extends MouseAdapter
 	{
 		curHoveredOverlay = null;
 
+		if (overlayProfiler.isEnabled())
+		{
+			overlayProfiler.nextFrame();
+		}
+
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
 
@@ -291,6 +300,8 @@ public class OverlayRenderer extends MouseAdapter
 		final Rectangle clip = clipBounds(layer);
 		graphics.setClip(clip);
 
+		final boolean profile = overlayProfiler.isEnabled();
+
 		for (Overlay overlay : overlays)
 		{
 			final OverlayPosition overlayPosition = getCorrectedOverlayPosition(overlay);
@@ -325,7 +336,16 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			if (profile)
+			{
+				final long start = System.nanoTime();
+				safeRender(overlay, graphics, location);
+				overlayProfiler.record(overlay, System.nanoTime() - start);
+			}
+			else
+			{
+				safeRender(overlay, graphics, location);
+			}
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -731,7 +751,10 @@ public class OverlayRenderer extends MouseAdapter
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			final Object contentKey = overlay.getContentKey();
+			overlayDimension = contentKey != null
+				? overlayImageCache.render(overlay, graphics, contentKey)
+				: overlay.render(graphics);
 		}
 		catch (Exception ex)
 		{
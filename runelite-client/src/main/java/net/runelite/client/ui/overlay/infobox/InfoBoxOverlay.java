@@ -32,6 +32,7 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -186,6 +187,42 @@ public class InfoBoxOverlay extends OverlayPanel
 		return dimension;
 	}
 
+	@Override
+	protected Object getPanelContentKey()
+	{
+		// while hovered, render() adds the tooltip and tracks the hovered infobox for its menu entries, and while
+		// the menu is open the infobox it was opened on has to be kept for the menu option click
+		if (client.isMenuOpen()
+			|| getBounds().contains(client.getMouseCanvasPosition().getX(), client.getMouseCanvasPosition().getY()))
+		{
+			return null;
+		}
+
+		// the previous render may be drawn instead of calling render(), which would have cleared the hovered
+		// infobox since the mouse is not over the panel. It may have been removed since.
+		hoveredComponent = null;
+
+		final List<Object> key = new ArrayList<>(5 + infoBoxes.size() * 4);
+		key.add(orientation);
+		key.add(config.infoBoxSize());
+		key.add(config.infoboxFontType());
+		key.add(config.infoBoxTextOutline());
+		key.add(config.overlayBackgroundColor());
+		for (InfoBox box : infoBoxes)
+		{
+			if (!box.render())
+			{
+				continue;
+			}
+
+			key.add(box);
+			key.add(box.getText());
+			key.add(box.getTextColor());
+			key.add(box.getScaledImage());
+		}
+		return key;
+	}
+
 	@Override
 	public List<OverlayMenuEntry> getMenuEntries()
 	{
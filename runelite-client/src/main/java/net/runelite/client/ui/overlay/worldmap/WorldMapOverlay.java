@@ -64,6 +64,9 @@ public class WorldMapOverlay extends Overlay
 	private static final int TOOLTIP_PADDING_WIDTH = 2;
 	private static final int TOOLTIP_TEXT_OFFSET_HEIGHT = -2;
 
+	// how far outside the map view, in pixels, a point can be and still have its image drawn in the view
+	private static final int VIEW_MARGIN = 128;
+
 	private static final Splitter TOOLTIP_SPLITTER = Splitter.on("<br>").trimResults().omitEmptyStrings();
 
 	private final WorldMapPointManager worldMapPointManager;
@@ -87,9 +90,7 @@ public class WorldMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints();
-
-		if (points.isEmpty())
+		if (worldMapPointManager.isEmpty())
 		{
 			return null;
 		}
@@ -119,6 +120,7 @@ public class WorldMapOverlay extends Overlay
 		bottomBar.setHasListener(true);
 
 		final Rectangle worldMapRectangle = widget.getBounds();
+		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints(getWorldMapViewArea(worldMapRectangle));
 		final Shape mapViewArea = getWorldMapClipArea(worldMapRectangle);
 		final Rectangle canvasBounds = new Rectangle(0, 0, client.getCanvasWidth(), client.getCanvasHeight());
 		final Shape canvasViewArea = getWorldMapClipArea(canvasBounds);
@@ -290,6 +292,29 @@ public class WorldMapOverlay extends Overlay
 		return null;
 	}
 
+	/**
+	 * Get the area of the world shown in the world map view, grown by {@link #VIEW_MARGIN}
+	 *
+	 * @param worldMapRect bounds of the world map view
+	 * @return area of the world, in tiles
+	 */
+	private Rectangle getWorldMapViewArea(Rectangle worldMapRect)
+	{
+		WorldMap worldMap = client.getWorldMap();
+		float pixelsPerTile = worldMap.getWorldMapZoom();
+
+		int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
+		int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
+		int marginInTiles = (int) Math.ceil(VIEW_MARGIN / pixelsPerTile) + 1;
+
+		Point worldMapPosition = worldMap.getWorldMapPosition();
+		return new Rectangle(
+			worldMapPosition.getX() - widthInTiles / 2 - marginInTiles,
+			worldMapPosition.getY() - heightInTiles / 2 - marginInTiles,
+			widthInTiles + marginInTiles * 2,
+			heightInTiles + marginInTiles * 2);
+	}
+
 	/**
 	 * Gets a clip area which excludes the area of widgets which overlay the world map.
 	 *
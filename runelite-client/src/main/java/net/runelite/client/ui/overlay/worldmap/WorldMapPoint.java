@@ -26,7 +26,11 @@ package net.runelite.client.ui.overlay.worldmap;
 
 import java.awt.image.BufferedImage;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import net.runelite.api.Point;
 import net.runelite.api.coords.WorldPoint;
@@ -67,12 +71,29 @@ public class WorldMapPoint
 
 	private String tooltip;
 
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	final WorldMapPointManager.Slot slot = new WorldMapPointManager.Slot();
+
 	public WorldMapPoint(WorldPoint worldPoint, BufferedImage image)
 	{
 		this.worldPoint = worldPoint;
 		this.image = image;
 	}
 
+	public void setWorldPoint(WorldPoint worldPoint)
+	{
+		this.worldPoint = worldPoint;
+		slot.moved(this);
+	}
+
+	public void setSnapToEdge(boolean snapToEdge)
+	{
+		this.snapToEdge = snapToEdge;
+		slot.moved(this);
+	}
+
 	public void onEdgeSnap()
 	{
 	}
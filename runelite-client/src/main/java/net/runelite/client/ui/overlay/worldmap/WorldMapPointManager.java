@@ -24,31 +24,221 @@
  */
 package net.runelite.client.ui.overlay.worldmap;
 
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
 import java.util.function.Predicate;
 import javax.inject.Singleton;
-import lombok.AccessLevel;
-import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
 
+/**
+ * Manages the points drawn on the world map. Points are indexed by the region-sized cell of the world
+ * they are in, so the points in the visible part of the map can be found without visiting every point.
+ */
 @Singleton
 public class WorldMapPointManager
 {
-	@Getter(AccessLevel.PACKAGE)
-	private final List<WorldMapPoint> worldMapPoints = new CopyOnWriteArrayList<>();
+	private static final int CELL_SHIFT = 6;
+	private static final long UNINDEXED = Long.MIN_VALUE;
+
+	/**
+	 * Where a point is in the index of the manager it has been added to
+	 */
+	static class Slot
+	{
+		private volatile WorldMapPointManager manager;
+		private long order;
+		private long cell;
+
+		void moved(WorldMapPoint point)
+		{
+			WorldMapPointManager manager = this.manager;
+			if (manager != null)
+			{
+				manager.reindex(point);
+			}
+		}
+	}
+
+	private final Map<Long, List<WorldMapPoint>> cells = new HashMap<>();
+	// points which are drawn wherever the map is: those which snap to the map edge, and those with no world point
+	private final List<WorldMapPoint> unindexed = new ArrayList<>();
+	private long order;
+	private int size;
+
+	public synchronized void add(WorldMapPoint worldMapPoint)
+	{
+		Slot slot = worldMapPoint.slot;
+		if (slot.manager != null)
+		{
+			return;
+		}
+
+		slot.manager = this;
+		slot.order = order++;
+		insert(worldMapPoint);
+		++size;
+	}
+
+	public synchronized void remove(WorldMapPoint worldMapPoint)
+	{
+		if (worldMapPoint.slot.manager != this)
+		{
+			return;
+		}
+
+		unlink(worldMapPoint);
+		worldMapPoint.slot.manager = null;
+		--size;
+	}
+
+	public synchronized void removeIf(Predicate<WorldMapPoint> filter)
+	{
+		for (Iterator<List<WorldMapPoint>> it = cells.values().iterator(); it.hasNext(); )
+		{
+			List<WorldMapPoint> cell = it.next();
+			removeIf(cell, filter);
+			if (cell.isEmpty())
+			{
+				it.remove();
+			}
+		}
+
+		removeIf(unindexed, filter);
+	}
+
+	synchronized boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Get the points within an area of the world, in the order they were added. Points which snap to
+	 * the edge of the map are always included, as they are drawn even when they are outside the map view.
+	 *
+	 * @param area area of the world, in tiles
+	 * @return the points in the area
+	 */
+	public synchronized List<WorldMapPoint> getWorldMapPoints(Rectangle area)
+	{
+		List<WorldMapPoint> points = new ArrayList<>(unindexed);
+
+		int minCellX = area.x >> CELL_SHIFT;
+		int minCellY = area.y >> CELL_SHIFT;
+		int maxCellX = (area.x + area.width - 1) >> CELL_SHIFT;
+		int maxCellY = (area.y + area.height - 1) >> CELL_SHIFT;
+
+		if ((long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > cells.size())
+		{
+			// the area covers more cells than are occupied
+			for (Map.Entry<Long, List<WorldMapPoint>> entry : cells.entrySet())
+			{
+				long cell = entry.getKey();
+				int cellX = (int) (cell >> 32);
+				int cellY = (int) cell;
+				if (cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY)
+				{
+					addContained(points, entry.getValue(), area);
+				}
+			}
+		}
+		else
+		{
+			for (int cellX = minCellX; cellX <= maxCellX; ++cellX)
+			{
+				for (int cellY = minCellY; cellY <= maxCellY; ++cellY)
+				{
+					List<WorldMapPoint> cell = cells.get(cellKey(cellX, cellY));
+					if (cell != null)
+					{
+						addContained(points, cell, area);
+					}
+				}
+			}
+		}
+
+		points.sort(Comparator.comparingLong(p -> p.slot.order));
+		return points;
+	}
+
+	private synchronized void reindex(WorldMapPoint point)
+	{
+		if (point.slot.manager != this)
+		{
+			return;
+		}
+
+		unlink(point);
+		insert(point);
+	}
+
+	private void insert(WorldMapPoint point)
+	{
+		Slot slot = point.slot;
+		WorldPoint worldPoint = point.getWorldPoint();
+		if (worldPoint == null || point.isSnapToEdge())
+		{
+			slot.cell = UNINDEXED;
+			unindexed.add(point);
+			return;
+		}
+
+		slot.cell = cellKey(worldPoint.getX() >> CELL_SHIFT, worldPoint.getY() >> CELL_SHIFT);
+		cells.computeIfAbsent(slot.cell, k -> new ArrayList<>()).add(point);
+	}
 
-	public void add(WorldMapPoint worldMapPoint)
+	private void unlink(WorldMapPoint point)
 	{
-		worldMapPoints.add(worldMapPoint);
+		long cellKey = point.slot.cell;
+		List<WorldMapPoint> cell = cellKey == UNINDEXED ? unindexed : cells.get(cellKey);
+		for (int i = 0; i < cell.size(); ++i)
+		{
+			if (cell.get(i) == point)
+			{
+				cell.remove(i);
+				break;
+			}
+		}
+
+		if (cell.isEmpty() && cell != unindexed)
+		{
+			cells.remove(cellKey);
+		}
+	}
+
+	private void removeIf(List<WorldMapPoint> points, Predicate<WorldMapPoint> filter)
+	{
+		points.removeIf(point ->
+		{
+			if (!filter.test(point))
+			{
+				return false;
+			}
+
+			point.slot.manager = null;
+			--size;
+			return true;
+		});
 	}
 
-	public void remove(WorldMapPoint worldMapPoint)
+	private static void addContained(List<WorldMapPoint> points, List<WorldMapPoint> cell, Rectangle area)
 	{
-		worldMapPoints.remove(worldMapPoint);
+		for (WorldMapPoint point : cell)
+		{
+			WorldPoint worldPoint = point.getWorldPoint();
+			if (worldPoint != null && area.contains(worldPoint.getX(), worldPoint.getY()))
+			{
+				points.add(point);
+			}
+		}
 	}
 
-	public void removeIf(Predicate<WorldMapPoint> filter)
+	private static long cellKey(int cellX, int cellY)
 	{
-		worldMapPoints.removeIf(filter);
+		return ((long) cellX << 32) | (cellY & 0xffffffffL);
 	}
 }
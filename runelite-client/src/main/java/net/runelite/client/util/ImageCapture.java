@@ -41,7 +41,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
@@ -56,6 +55,7 @@ import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
 import net.runelite.client.config.RuneScapeProfileType;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.ScreenshotTaken;
+import net.runelite.client.task.TaskExecutor;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
 
@@ -70,7 +70,7 @@ public class ImageCapture
 	private final Notifier notifier;
 	private final ClientUI clientUi;
 	private final DrawManager drawManager;
-	private final ScheduledExecutorService executor;
+	private final TaskExecutor taskExecutor;
 	private final EventBus eventBus;
 
 	/**
@@ -86,8 +86,8 @@ public class ImageCapture
 	{
 		drawManager.requestNextFrameListener((img) ->
 		{
-			// This callback is on the client thread, move to executor thread now that we have the screenshot
-			executor.submit(() ->
+			// This callback is on the client thread, move to a background thread now that we have the screenshot
+			taskExecutor.execute(TaskExecutor.Lane.CPU, TaskExecutor.Priority.NORMAL, () ->
 			{
 				final BufferedImage screenshot;
 				if (includeClientFrame)
@@ -212,16 +212,16 @@ public class ImageCapture
 		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
 
 		File screenshotFile = new File(playerFolder, fileName + ".png");
-		// To make sure that screenshots don't get overwritten, check if file exists,
-		// and if it does create file with same name and suffix.
-		int i = 1;
-		while (screenshotFile.exists())
-		{
-			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
-		}
-
 		try
 		{
+			// To make sure that screenshots don't get overwritten, including by another screenshot
+			// being saved concurrently, claim the file, and if it exists create file with same name and suffix.
+			int i = 1;
+			while (!screenshotFile.createNewFile())
+			{
+				screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			}
+
 			ImageIO.write(screenshot, "PNG", screenshotFile);
 		}
 		catch (IOException ex)
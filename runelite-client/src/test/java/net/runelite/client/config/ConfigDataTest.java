@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testKeysWithPrefix() throws IOException
+	{
+		ConfigData data = new ConfigData(new File(folder.getRoot(), "settings.properties"));
+		data.setProperty("farming.rsprofile.abc.patch", "1");
+		data.setProperty("farming.rsprofile.abd.patch", "2");
+		data.setProperty("farming.rsprofile.ab", "3");
+		data.setProperty("farmingtracker.key", "4");
+		data.setProperty("banktags.tagtabs", "5");
+
+		assertEquals(List.of("farming.rsprofile.ab", "farming.rsprofile.abc.patch", "farming.rsprofile.abd.patch"),
+			data.keysWithPrefix("farming.rsprofile.ab"));
+		assertEquals(List.of("farming.rsprofile.abc.patch"), data.keysWithPrefix("farming.rsprofile.abc"));
+		assertEquals(List.of("farmingtracker.key"), data.keysWithPrefix("farmingtracker."));
+		assertEquals(Collections.emptyList(), data.keysWithPrefix("zzz"));
+
+		data.unset("farming.rsprofile.ab");
+		assertEquals(2, data.keysWithPrefix("farming.").size());
+	}
+
+	@Test
+	public void testJournalReplay()
+	{
+		File file = new File(folder.getRoot(), "settings.properties");
+		File journal = new File(folder.getRoot(), "settings.properties.journal");
+
+		ConfigData data = new ConfigData(file);
+		data.setProperty("group.a", "1");
+		data.setProperty("group.b", "2");
+		data.patch(data.swapChanges());
+		data.compact();
+		assertTrue(file.exists());
+		assertFalse(journal.exists());
+
+		data.unset("group.a");
+		data.setProperty("group.b", "3");
+		data.patch(data.swapChanges());
+		assertTrue(journal.exists());
+
+		// a new client loading the config replays the journal
+		ConfigData loaded = new ConfigData(file);
+		assertNull(loaded.getProperty("group.a"));
+		assertEquals("3", loaded.getProperty("group.b"));
+		assertFalse(journal.exists());
+	}
+
+	@Test
+	public void testTruncatedJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties");
+		File journal = new File(folder.getRoot(), "settings.properties.journal");
+
+		ConfigData data = new ConfigData(file);
+		Map<String, String> patch = new HashMap<>();
+		patch.put("group.key", "value");
+		data.patch(patch);
+
+		// a partially written record, as if the client crashed while saving
+		try (FileOutputStream out = new FileOutputStream(journal, true))
+		{
+			out.write(new byte[]{0, 0, 0, 0, 9, 'g', 'r'});
+		}
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("value", loaded.getProperty("group.key"));
+		assertEquals(1, loaded.get().size());
+	}
+
+	@Test
+	public void testCorruptJournalLength() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties");
+		File journal = new File(folder.getRoot(), "settings.properties.journal");
+		File corrupt = new File(folder.getRoot(), "settings.properties.journal.corrupt");
+
+		ConfigData data = new ConfigData(file);
+		Map<String, String> patch = new HashMap<>();
+		patch.put("group.key", "value");
+		data.patch(patch);
+
+		// a key with a length far larger than the journal, and one with a negative length
+		try (FileOutputStream out = new FileOutputStream(journal, true))
+		{
+			out.write(new byte[]{0, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 'g'});
+		}
+
+		ConfigData loaded = new ConfigData(file);
+		assertEquals("value", loaded.getProperty("group.key"));
+		assertEquals(1, loaded.get().size());
+		assertFalse(journal.exists());
+		assertTrue(corrupt.exists());
+
+		loaded.setProperty("group.other", "1");
+		loaded.patch(loaded.swapChanges());
+		try (FileOutputStream out = new FileOutputStream(journal, true))
+		{
+			out.write(new byte[]{1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xfe});
+		}
+
+		loaded = new ConfigData(file);
+		assertEquals("value", loaded.getProperty("group.key"));
+		assertEquals("1", loaded.getProperty("group.other"));
+		assertEquals(2, loaded.get().size());
+		assertFalse(journal.exists());
+	}
+}
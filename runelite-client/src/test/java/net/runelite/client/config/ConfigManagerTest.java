@@ -145,6 +145,25 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testCachedConfigInvalidation()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+		Assert.assertNull(conf.nullDefaultKey());
+
+		manager.setConfiguration("test", "nullDefaultKey", "value");
+		Assert.assertEquals("value", conf.nullDefaultKey());
+		Assert.assertEquals("default", conf.key());
+
+		manager.setConfiguration("test", "key", "new value");
+		Assert.assertEquals("new value", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals("value", conf.nullDefaultKey());
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
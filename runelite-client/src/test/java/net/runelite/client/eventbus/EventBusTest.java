@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static class TestEvent
+	{
+	}
+
+	private static class OtherEvent
+	{
+	}
+
+	private final List<String> calls = new ArrayList<>();
+
+	private class LowPriority
+	{
+		@Subscribe(priority = -1)
+		void onTestEvent(TestEvent event)
+		{
+			calls.add("low");
+		}
+	}
+
+	private class HighPriority
+	{
+		@Subscribe(priority = 1)
+		void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+
+		@Subscribe
+		void onOtherEvent(OtherEvent event)
+		{
+			calls.add("high other");
+		}
+	}
+
+	private class Invalid
+	{
+		@Subscribe
+		void onTestEvent(TestEvent event)
+		{
+			calls.add("invalid");
+		}
+
+		@Subscribe
+		void onWrongName(OtherEvent event)
+		{
+		}
+	}
+
+	@Test
+	public void testPriority()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new LowPriority());
+		eventBus.register(new HighPriority());
+		eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0);
+
+		eventBus.post(new TestEvent());
+		assertEquals(List.of("high", "lambda", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		LowPriority low = new LowPriority();
+		HighPriority high = new HighPriority();
+		eventBus.register(low);
+		eventBus.register(high);
+		EventBus.Subscriber sub = eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0);
+
+		eventBus.unregister(high);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(List.of("lambda", "low"), calls);
+
+		calls.clear();
+		eventBus.unregister(sub);
+		eventBus.unregister(sub);
+		eventBus.post(new TestEvent());
+		assertEquals(List.of("low"), calls);
+
+		calls.clear();
+		eventBus.unregister(low);
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testSubscriberConstructor() throws Exception
+	{
+		Method method = LowPriority.class.getDeclaredMethod("onTestEvent", TestEvent.class);
+		LowPriority low = new LowPriority();
+		EventBus.Subscriber sub = new EventBus.Subscriber(low, method, -1, null);
+		assertEquals(TestEvent.class, sub.getEventType());
+		assertEquals(new EventBus.Subscriber(low, method, -1, TestEvent.class, null), sub);
+	}
+
+	@Test
+	public void testInvalidRegistersNothing()
+	{
+		EventBus eventBus = new EventBus();
+		try
+		{
+			eventBus.register(new Invalid());
+			fail();
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// expected
+		}
+
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		eventBus.register(TestEvent.class, e ->
+		{
+			throw new IllegalStateException();
+		}, 1);
+		eventBus.register(new LowPriority());
+
+		eventBus.post(new TestEvent());
+		assertEquals(1, exceptions.size());
+		assertEquals(List.of("low"), calls);
+	}
+
+	@Test
+	public void testProfiling()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new HighPriority());
+		eventBus.post(new TestEvent());
+		assertTrue(eventBus.getProfile().isEmpty());
+
+		eventBus.setProfiling(true, true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		eventBus.setProfiling(false, false);
+		eventBus.post(new TestEvent());
+
+		List<SubscriberProfile> profile = eventBus.getProfile();
+		assertEquals(2, profile.size());
+		SubscriberProfile test = profile.stream().filter(p -> p.getEventType() == TestEvent.class).findFirst().get();
+		assertEquals(2, test.getCalls());
+		assertEquals("HighPriority.onTestEvent", test.getSubscriberName());
+		assertTrue(test.getMaxNanos() <= test.getTotalNanos());
+
+		eventBus.resetProfile();
+		assertTrue(eventBus.getProfile().isEmpty());
+	}
+
+	@Test
+	public void testProfilingUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		HighPriority subscriber = new HighPriority();
+		eventBus.register(subscriber);
+
+		eventBus.setProfiling(true, false);
+		eventBus.post(new TestEvent());
+		assertEquals(1, eventBus.getProfile().size());
+
+		eventBus.unregister(subscriber);
+		assertTrue(eventBus.getProfile().isEmpty());
+		eventBus.setProfiling(false, false);
+	}
+
+	@Test
+	public void testProfilingRestoresAllocationTracking()
+	{
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(bean.isThreadAllocatedMemorySupported());
+
+		boolean enabled = bean.isThreadAllocatedMemoryEnabled();
+		bean.setThreadAllocatedMemoryEnabled(false);
+		try
+		{
+			EventBus eventBus = new EventBus();
+			eventBus.setProfiling(true, true);
+			assertTrue(bean.isThreadAllocatedMemoryEnabled());
+			eventBus.setProfiling(false, false);
+			assertFalse(bean.isThreadAllocatedMemoryEnabled());
+		}
+		finally
+		{
+			bean.setThreadAllocatedMemoryEnabled(enabled);
+		}
+	}
+}
@@ -34,6 +34,7 @@ import net.runelite.api.Client;
 import net.runelite.api.ItemID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.task.TaskExecutor;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
 import org.junit.Before;
@@ -56,6 +57,10 @@ public class ItemManagerTest
 	@Bind
 	private ScheduledExecutorService scheduledExecutorService;
 
+	@Mock
+	@Bind
+	private TaskExecutor taskExecutor;
+
 	@Mock
 	@Bind
 	private ClientThread clientThread;
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.inject.Inject;
+import javax.inject.Named;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.messages.CodecSync;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.party.messages.WebsocketMessage;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WSClientTest
+{
+	private static final long PARTY_ID = 1;
+	private static final long MEMBER_ID = 2;
+	private static final long OTHER_MEMBER_ID = 3;
+
+	@Inject
+	private WSClient wsClient;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Mock
+	@Bind
+	private OkHttpClient okHttpClient;
+
+	@Bind
+	@Named("runelite.ws")
+	private HttpUrl runeliteWs = HttpUrl.get("https://localhost/ws");
+
+	@Mock
+	private WebSocket webSocket;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(okHttpClient.newWebSocket(any(Request.class), any(WebSocketListener.class))).thenReturn(webSocket);
+		wsClient.changeSession(UUID.randomUUID());
+	}
+
+	@Test
+	public void testJoinPartyWithoutCodecs() throws InvalidProtocolBufferException
+	{
+		wsClient.join(PARTY_ID, MEMBER_ID);
+		receiveJoin(MEMBER_ID);
+
+		// the server doesn't say who is already in the party, so nothing is known to decode binary yet
+		wsClient.send(new UserSync());
+		assertFalse(lastSentBinary());
+
+		// a member already in the party, on a client without codecs, replies to the sync
+		receiveData(OTHER_MEMBER_ID, new UserSync());
+		wsClient.send(new UserSync());
+		assertFalse(lastSentBinary());
+
+		receiveData(OTHER_MEMBER_ID, new CodecSync(Map.of("UserSync", UserSync.CODEC.getVersion()), false));
+		wsClient.send(new UserSync());
+		assertTrue(lastSentBinary());
+
+		// a member joining afterwards is sent JSON until it announces its codecs too
+		receiveJoin(OTHER_MEMBER_ID + 1);
+		wsClient.send(new UserSync());
+		assertFalse(lastSentBinary());
+	}
+
+	@Test
+	public void testPartyMemberWithoutCodecs() throws InvalidProtocolBufferException
+	{
+		wsClient.join(PARTY_ID, MEMBER_ID);
+		receiveJoin(MEMBER_ID);
+		receiveData(OTHER_MEMBER_ID, new CodecSync(Map.of("UserSync", UserSync.CODEC.getVersion()), false));
+		wsClient.send(new UserSync());
+		assertTrue(lastSentBinary());
+
+		// a member the party service knows of which hasn't sent anything yet
+		wsClient.setPartyMembers(Set.of(MEMBER_ID, OTHER_MEMBER_ID, OTHER_MEMBER_ID + 1));
+		wsClient.send(new UserSync());
+		assertFalse(lastSentBinary());
+
+		receiveData(OTHER_MEMBER_ID + 1, new CodecSync(Map.of("UserSync", UserSync.CODEC.getVersion()), false));
+		wsClient.send(new UserSync());
+		assertTrue(lastSentBinary());
+	}
+
+	@Test
+	public void testCodecVersionMismatch() throws InvalidProtocolBufferException
+	{
+		wsClient.join(PARTY_ID, MEMBER_ID);
+		receiveJoin(MEMBER_ID);
+		receiveData(OTHER_MEMBER_ID, new CodecSync(Map.of("UserSync", UserSync.CODEC.getVersion() + 1), false));
+		wsClient.send(new UserSync());
+		assertFalse(lastSentBinary());
+	}
+
+	private void receiveJoin(long memberId)
+	{
+		receive(Party.S2C.newBuilder()
+			.setJoin(Party.UserJoin.newBuilder()
+				.setPartyId(PARTY_ID)
+				.setMemberId(memberId))
+			.build());
+	}
+
+	private void receiveData(long memberId, WebsocketMessage message)
+	{
+		final String json = WebsocketGsonFactory.build().toJson(message, WebsocketMessage.class);
+		receive(Party.S2C.newBuilder()
+			.setData(Party.PartyData.newBuilder()
+				.setType(message.getClass().getSimpleName())
+				.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
+				.setMemberId(memberId))
+			.build());
+	}
+
+	private void receive(Party.S2C s2c)
+	{
+		wsClient.onMessage(webSocket, ByteString.of(s2c.toByteArray()));
+	}
+
+	private boolean lastSentBinary() throws InvalidProtocolBufferException
+	{
+		ArgumentCaptor<ByteString> captor = ArgumentCaptor.forClass(ByteString.class);
+		verify(webSocket, atLeastOnce()).send(captor.capture());
+		Party.C2S c2s = Party.C2S.parseFrom(captor.getValue().toByteArray());
+		return c2s.getData().getData().byteAt(0) == 0;
+	}
+}
@@ -36,10 +36,14 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import com.google.inject.util.Modules;
 import java.awt.Component;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -57,6 +61,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -105,7 +110,7 @@ public class PluginManagerTest
 		when(configLoader.get()).thenReturn(mock(RuntimeConfig.class));
 
 		Injector injector = Guice.createInjector(Modules
-			.override(new RuneLiteModule(okHttpClient, () -> null, configLoader, true, false, false,
+			.override(new RuneLiteModule(okHttpClient, () -> null, configLoader, true, false, false, false,
 				RuneLite.DEFAULT_SESSION_FILE,
 				null, false, false
 			))
@@ -137,7 +142,7 @@ public class PluginManagerTest
 	@Test
 	public void testLoadPlugins() throws Exception
 	{
-		var pluginManager = new PluginManager(false, false, null, null, null, null);
+		var pluginManager = new PluginManager(false, false, false, null, null, null, null);
 		pluginManager.loadCorePlugins();
 		var plugins = pluginManager.getPlugins();
 
@@ -153,10 +158,25 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testLoadPluginsParallel() throws Exception
+	{
+		var pluginManager = new PluginManager(false, false, true, null, null, null, null);
+		pluginManager.loadCorePlugins();
+		var plugins = pluginManager.getPlugins();
+
+		var expected = pluginClasses.stream()
+			.map(cl -> cl.getAnnotation(PluginDescriptor.class))
+			.filter(Objects::nonNull)
+			.filter(pd -> !pd.developerPlugin())
+			.count();
+		assertEquals(expected, plugins.size());
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
-		PluginManager pluginManager = new PluginManager(true, false, null, null, null, null);
+		PluginManager pluginManager = new PluginManager(true, false, false, null, null, null, null);
 		pluginManager.loadCorePlugins();
 
 		Injector graphvizInjector = Guice.createInjector(new GraphvizModule());
@@ -181,6 +201,28 @@ public class PluginManagerTest
 		}
 	}
 
+	@Test
+	public void testPluginIndex() throws IOException
+	{
+		// the index is written by the build, and is absent when compiled elsewhere
+		InputStream in = PluginManager.class.getResourceAsStream("plugins.index");
+		assumeNotNull(in);
+
+		Set<String> indexed = new HashSet<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				indexed.add(line.split("\t", -1)[0]);
+			}
+		}
+
+		Set<String> expected = new HashSet<>();
+		pluginClasses.forEach(cl -> expected.add(cl.getName()));
+		assertEquals(expected, indexed);
+	}
+
 	@Test
 	public void ensureNoDuplicateConfigKeyNames()
 	{
@@ -233,4 +275,28 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testDependencyLevels()
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+
+		graph.addNode(1);
+		graph.addNode(2);
+		graph.addNode(3);
+		graph.addNode(4);
+
+		graph.putEdge(1, 2);
+		graph.putEdge(2, 3);
+		graph.putEdge(1, 3);
+
+		List<List<Integer>> levels = PluginManager.dependencyLevels(graph, PluginManager.topologicalSort(graph));
+
+		assertEquals(3, levels.size());
+		assertEquals(Set.of(1, 4), new HashSet<>(levels.get(0)));
+		assertEquals(List.of(2), levels.get(1));
+		assertEquals(List.of(3), levels.get(2));
+	}
 }
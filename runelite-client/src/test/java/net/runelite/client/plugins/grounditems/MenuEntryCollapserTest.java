@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.client.menus.TestMenuEntry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class MenuEntryCollapserTest
+{
+	private final MenuEntryCollapser collapser = new MenuEntryCollapser();
+
+	private static MenuEntry entry(String option, String target, MenuAction type, int identifier)
+	{
+		TestMenuEntry entry = new TestMenuEntry();
+		entry.setOption(option);
+		entry.setTarget(target);
+		entry.setType(type);
+		entry.setIdentifier(identifier);
+		entry.setParam0(10);
+		entry.setParam1(20);
+		return entry;
+	}
+
+	private static MenuEntry[] menu()
+	{
+		return new MenuEntry[]{
+			entry("Cancel", "", MenuAction.CANCEL, 0),
+			entry("Examine", "Bones", MenuAction.EXAMINE_ITEM_GROUND, 526),
+			entry("Examine", "Bones", MenuAction.EXAMINE_ITEM_GROUND, 526),
+			entry("Examine", "Coins", MenuAction.EXAMINE_ITEM_GROUND, 995),
+			entry("Walk here", "", MenuAction.WALK, 0),
+			entry("Walk here", "", MenuAction.WALK, 0),
+			entry("Take", "Bones", MenuAction.GROUND_ITEM_THIRD_OPTION, 526),
+			entry("Take", "Coins", MenuAction.GROUND_ITEM_THIRD_OPTION, 995),
+			entry("Take", "Bones", MenuAction.GROUND_ITEM_THIRD_OPTION, 526),
+			entry("Take", "Bones", MenuAction.GROUND_ITEM_THIRD_OPTION, 526),
+		};
+	}
+
+	@Test
+	public void testCollapse()
+	{
+		MenuEntry[] menu = menu();
+		MenuEntry[] collapsed = collapser.collapse(menu);
+
+		assertEquals(7, collapsed.length);
+		assertSame(menu[0], collapsed[0]);
+		assertEquals("Bones x 2", collapsed[1].getTarget());
+		assertEquals("Coins", collapsed[2].getTarget());
+		// only ground item entries are collapsed
+		assertEquals(MenuAction.WALK, collapsed[3].getType());
+		assertEquals(MenuAction.WALK, collapsed[4].getType());
+		assertEquals("Coins", collapsed[5].getTarget());
+		// the topmost of the identical entries is kept
+		assertSame(menu[9], collapsed[6]);
+		assertEquals("Bones x 3", collapsed[6].getTarget());
+
+		// the collapsed menu is unchanged on the next tick
+		assertNull(collapser.collapse(collapsed.clone()));
+
+		// a rebuilt menu is collapsed again
+		collapsed = collapser.collapse(menu());
+		assertEquals(7, collapsed.length);
+		assertEquals("Bones x 3", collapsed[6].getTarget());
+	}
+
+	@Test
+	public void testNothingToCollapse()
+	{
+		MenuEntry[] menu = {
+			entry("Cancel", "", MenuAction.CANCEL, 0),
+			entry("Take", "Bones", MenuAction.GROUND_ITEM_THIRD_OPTION, 526),
+			entry("Take", "Coins", MenuAction.GROUND_ITEM_THIRD_OPTION, 995),
+		};
+		assertNull(collapser.collapse(menu));
+		assertEquals("Bones", menu[1].getTarget());
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static ConfigLoot loot(String name, int kills, int... drops)
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, name);
+		loot.kills = kills;
+		loot.last = Instant.ofEpochMilli(1_000L * kills);
+		loot.drops = drops;
+		return loot;
+	}
+
+	@Test
+	public void testPutGet() throws IOException
+	{
+		File file = new File(folder.getRoot(), "loot.dat");
+		LootStore store = new LootStore(file);
+		store.put(loot("Goblin", 1, 526, 1));
+		store.put(loot("Goblin", 2, 526, 2, 995, 10));
+		store.put(loot("Cow", 3, 1739, 1));
+		store.remove(LootRecordType.NPC, "Cow");
+
+		ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin");
+		assertEquals(2, goblin.kills);
+		assertArrayEquals(new int[]{526, 2, 995, 10}, goblin.drops);
+		assertNull(store.get(LootRecordType.NPC, "Cow"));
+
+		store = new LootStore(file);
+		assertEquals(1, store.entries().size());
+		LootStore.Entry entry = store.entries().get(0);
+		assertEquals("Goblin", entry.getName());
+		assertEquals(2, entry.getNumDrops());
+		assertEquals(Instant.ofEpochMilli(2000L), entry.getLast());
+		assertEquals(2, store.get(entry.getType(), entry.getName()).kills);
+	}
+
+	@Test
+	public void testTruncatedRecord() throws IOException
+	{
+		File file = new File(folder.getRoot(), "loot.dat");
+		LootStore store = new LootStore(file);
+		store.put(loot("Goblin", 1, 526, 1));
+		long length = file.length();
+
+		// a partially written record, as if the client crashed while saving
+		try (FileOutputStream out = new FileOutputStream(file, true))
+		{
+			out.write(new byte[]{0, 0, 0, 40, 1, 0});
+		}
+
+		store = new LootStore(file);
+		assertEquals(1, store.get(LootRecordType.NPC, "Goblin").kills);
+		store.put(loot("Cow", 2));
+		assertTrue(file.length() > length);
+
+		assertEquals(2, new LootStore(file).entries().size());
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		File file = new File(folder.getRoot(), "loot.dat");
+		LootStore store = new LootStore(file);
+		for (int i = 1; i <= 2_000; ++i)
+		{
+			store.put(loot("Goblin", i, 526, i));
+		}
+		store.put(loot("Cow", 1, 1739, 1));
+		assertTrue(file.length() < 64 * 1024);
+
+		assertEquals(2_000, store.get(LootRecordType.NPC, "Goblin").kills);
+
+		store = new LootStore(file);
+		assertEquals(2_000, store.get(LootRecordType.NPC, "Goblin").kills);
+		assertEquals(1, store.get(LootRecordType.NPC, "Cow").kills);
+	}
+
+	@Test
+	public void testSharedFile() throws IOException
+	{
+		File file = new File(folder.getRoot(), "loot.dat");
+		LootStore first = new LootStore(file);
+		LootStore second = new LootStore(file);
+
+		first.put(loot("Goblin", 1, 526, 1));
+		assertEquals(1, second.get(LootRecordType.NPC, "Goblin").kills);
+
+		// the second client compacts the file out from under the first
+		for (int i = 2; i <= 2_000; ++i)
+		{
+			second.put(loot("Goblin", i, 526, i));
+		}
+		second.put(loot("Cow", 1, 1739, 1));
+
+		assertEquals(2_000, first.get(LootRecordType.NPC, "Goblin").kills);
+		first.remove(LootRecordType.NPC, "Cow");
+		first.put(loot("Imp", 3, 592, 1));
+
+		assertNull(second.get(LootRecordType.NPC, "Cow"));
+		assertEquals(3, second.get(LootRecordType.NPC, "Imp").kills);
+		assertEquals(2, second.entries().size());
+		assertEquals(2_000, new LootStore(file).get(LootRecordType.NPC, "Goblin").kills);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.awt.Color;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.PartyMessageCodec;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import net.runelite.client.plugins.party.messages.TilePing;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class PartyMessageCodecTest
+{
+	private static <T extends WebsocketMessage> T roundTrip(PartyMessageCodec<T> codec, T message)
+	{
+		ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		codec.encode(message, out);
+		return codec.decode(ByteStreams.newDataInput(out.toByteArray()));
+	}
+
+	@Test
+	public void testStatusUpdate()
+	{
+		StatusUpdate status = new StatusUpdate();
+		status.setCharacterName("Zezima");
+		status.setHealthCurrent(42);
+		status.setPrayerMax(99);
+		status.setSpecEnergy(1000);
+		status.setVengeanceActive(false);
+		status.setMemberColor(new Color(10, 20, 30, 40));
+		// equality of party messages is by identity, so compare their fields through toString
+		assertEquals(status.toString(), roundTrip(StatusUpdate.CODEC, status).toString());
+
+		// only the changed fields are sent
+		StatusUpdate partial = new StatusUpdate();
+		partial.setRunEnergy(5000);
+		StatusUpdate decoded = roundTrip(StatusUpdate.CODEC, partial);
+		assertEquals(Integer.valueOf(5000), decoded.getRunEnergy());
+		assertNull(decoded.getCharacterName());
+		assertNull(decoded.getHealthCurrent());
+		assertNull(decoded.getVengeanceActive());
+	}
+
+	@Test
+	public void testPoints()
+	{
+		WorldPoint point = new WorldPoint(3222, 3218, 2);
+		assertEquals(point, roundTrip(LocationUpdate.CODEC, new LocationUpdate(point)).getWorldPoint());
+		assertEquals(point, roundTrip(TilePing.CODEC, new TilePing(point)).getPoint());
+	}
+}
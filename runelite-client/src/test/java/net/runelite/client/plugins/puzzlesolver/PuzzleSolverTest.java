@@ -25,15 +25,27 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
-import org.junit.Test;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.ParallelIDAStar;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.Pathfinder;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
 
+@Slf4j
 public class PuzzleSolverTest
 {
 	private static final PuzzleState[] START_STATES =
@@ -136,6 +148,22 @@ public class PuzzleSolverTest
 
 	private static final int[] FINISHED_STATE = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1};
 
+	private static final int THREADS = 4;
+
+	private ExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newFixedThreadPool(THREADS - 1);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
 	@Test
 	public void testSolverMM()
 	{
@@ -163,4 +191,67 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testParallelSolver()
+	{
+		for (PuzzleState state : START_STATES)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new ParallelIDAStar(executor, THREADS), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertFalse(solver.hasFailed());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+
+			// the solution is optimal, so as short as the manhattan distance solver's
+			PuzzleSolver reference = new PuzzleSolver(new IDAStar(new ManhattanDistance()), state);
+			reference.run();
+			assertEquals(reference.getStepCount(), solver.getStepCount());
+		}
+	}
+
+	@Test
+	public void testParallelSolverMM()
+	{
+		for (PuzzleState state : START_STATES_MM)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance(), new ParallelIDAStar(executor, THREADS)), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertFalse(solver.hasFailed());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+		}
+	}
+
+	@Test
+	public void testLinearConflict()
+	{
+		// 1 and 0 are in their goal row but swapped, and 1 must leave the row to let 0 pass
+		PuzzleState state = new PuzzleState(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1});
+		assertEquals(2, new ManhattanDistance().computeValue(state));
+		assertEquals(4, new LinearConflict().computeValue(state));
+
+		assertEquals(0, new LinearConflict().computeValue(new PuzzleState(FINISHED_STATE.clone())));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		benchmark("IDAStar", new IDAStar(new ManhattanDistance()));
+		benchmark("ParallelIDAStar", new ParallelIDAStar(executor, THREADS));
+	}
+
+	private static void benchmark(String name, Pathfinder pathfinder)
+	{
+		long start = System.nanoTime();
+		for (PuzzleState state : START_STATES)
+		{
+			pathfinder.computePath(state);
+		}
+		long elapsed = System.nanoTime() - start;
+		log.info("{}: {}ms for {} puzzles", name, TimeUnit.NANOSECONDS.toMillis(elapsed), START_STATES.length);
+	}
 }
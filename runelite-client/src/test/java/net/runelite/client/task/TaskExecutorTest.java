@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.task.TaskExecutor.Lane;
+import net.runelite.client.task.TaskExecutor.Priority;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TaskExecutorTest
+{
+	private ScheduledThreadPoolExecutor timer;
+	private TaskExecutor taskExecutor;
+
+	@Before
+	public void before()
+	{
+		timer = new ScheduledThreadPoolExecutor(1);
+		taskExecutor = new TaskExecutor(timer, 1, 1);
+	}
+
+	@After
+	public void after()
+	{
+		timer.shutdownNow();
+	}
+
+	@Test
+	public void testPriority() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		taskExecutor.execute(Lane.IO, Priority.NORMAL, () ->
+		{
+			started.countDown();
+			awaitUninterruptibly(release);
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		List<String> order = new CopyOnWriteArrayList<>();
+		taskExecutor.execute(Lane.IO, Priority.LOW, () -> order.add("low"));
+		taskExecutor.execute(Lane.IO, Priority.NORMAL, () -> order.add("normal 1"));
+		taskExecutor.execute(Lane.IO, Priority.HIGH, () -> order.add("high"));
+		taskExecutor.execute(Lane.IO, Priority.NORMAL, () -> order.add("normal 2"));
+		assertEquals(4, taskExecutor.getQueueDepth(Lane.IO));
+		assertEquals(1, taskExecutor.getActiveCount(Lane.IO));
+
+		release.countDown();
+		taskExecutor.submit(Lane.IO, Priority.LOW, () -> null).get(5, TimeUnit.SECONDS);
+
+		assertEquals(List.of("high", "normal 1", "normal 2", "low"), order);
+		assertEquals(0, taskExecutor.getQueueDepth(Lane.IO));
+	}
+
+	@Test
+	public void testLanesAreIndependent() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		taskExecutor.execute(Lane.IO, Priority.HIGH, () -> awaitUninterruptibly(release));
+
+		// a blocked io lane does not hold up the cpu or timer lanes
+		assertEquals(1, (int) taskExecutor.submit(Lane.CPU, Priority.NORMAL, () -> 1).get(5, TimeUnit.SECONDS));
+		assertEquals(2, (int) taskExecutor.submit(Lane.TIMER, Priority.NORMAL, () -> 2).get(5, TimeUnit.SECONDS));
+
+		release.countDown();
+	}
+
+	@Test
+	public void testSchedule() throws Exception
+	{
+		CountDownLatch ran = new CountDownLatch(1);
+		taskExecutor.schedule(Lane.CPU, Priority.NORMAL, ran::countDown, 10, TimeUnit.MILLISECONDS);
+		assertTrue(ran.await(5, TimeUnit.SECONDS));
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch)
+	{
+		try
+		{
+			latch.await();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
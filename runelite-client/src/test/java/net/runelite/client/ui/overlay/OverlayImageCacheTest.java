@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OverlayImageCacheTest
+{
+	private static class CountingOverlay extends Overlay
+	{
+		private int renders;
+		private Dimension size = new Dimension(10, 10);
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, size.width, size.height);
+			return size;
+		}
+	}
+
+	private final OverlayImageCache cache = new OverlayImageCache();
+	private final CountingOverlay overlay = new CountingOverlay();
+	private BufferedImage target;
+	private Graphics2D graphics;
+
+	@Before
+	public void before()
+	{
+		target = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+		graphics = target.createGraphics();
+		graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+	}
+
+	private void renderFrame(Object key)
+	{
+		final Dimension dimension = cache.render(overlay, graphics, key);
+		overlay.getBounds().setSize(dimension);
+	}
+
+	@Test
+	public void testRetained()
+	{
+		renderFrame("a");
+		renderFrame("a");
+		assertEquals(2, overlay.renders);
+
+		target.setRGB(5, 5, 0);
+		renderFrame("a");
+		renderFrame("a");
+		assertEquals(2, overlay.renders);
+		assertEquals(Color.RED.getRGB(), target.getRGB(5, 5));
+		assertEquals(new Dimension(10, 10), overlay.getBounds().getSize());
+
+		renderFrame("b");
+		assertEquals(3, overlay.renders);
+	}
+
+	@Test
+	public void testInvalidatedByPreferredSize()
+	{
+		renderFrame("a");
+		renderFrame("a");
+		renderFrame("a");
+		assertEquals(2, overlay.renders);
+
+		overlay.setPreferredSize(new Dimension(15, 15));
+		renderFrame("a");
+		assertEquals(3, overlay.renders);
+	}
+
+	@Test
+	public void testGrowWithoutKeyChange()
+	{
+		renderFrame("a");
+		overlay.size = new Dimension(15, 15);
+		renderFrame("a");
+		assertEquals(new Dimension(15, 15), overlay.getBounds().getSize());
+
+		// the image was too small, so it is captured again at the new size
+		renderFrame("a");
+		renderFrame("a");
+		renderFrame("a");
+		assertEquals(4, overlay.renders);
+		assertEquals(Color.RED.getRGB(), target.getRGB(14, 14));
+	}
+}
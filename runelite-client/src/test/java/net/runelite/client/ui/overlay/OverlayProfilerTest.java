@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class OverlayProfilerTest
+{
+	private static class TestOverlay extends Overlay
+	{
+		TestOverlay(OverlayLayer layer)
+		{
+			setLayer(layer);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			return null;
+		}
+	}
+
+	@Test
+	public void testTimings()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setEnabled(true);
+
+		TestOverlay scene = new TestOverlay(OverlayLayer.ABOVE_SCENE);
+		TestOverlay widgets = new TestOverlay(OverlayLayer.ABOVE_WIDGETS);
+
+		for (int i = 1; i <= 100; ++i)
+		{
+			profiler.record(scene, i);
+			// rendered twice in one frame
+			profiler.record(widgets, 5);
+			profiler.record(widgets, 5);
+			profiler.nextFrame();
+		}
+
+		List<OverlayProfiler.OverlayTiming> timings = profiler.getTimings();
+		assertEquals(2, timings.size());
+
+		OverlayProfiler.OverlayTiming first = timings.get(0);
+		assertEquals(OverlayLayer.ABOVE_SCENE, first.getLayer());
+		assertEquals(100, first.getLastFrameNanos());
+		assertEquals(50, first.getP50Nanos());
+		assertEquals(99, first.getP99Nanos());
+		assertEquals(100, first.getFrames());
+
+		OverlayProfiler.OverlayTiming second = timings.get(1);
+		assertEquals(10, second.getLastFrameNanos());
+		assertEquals(10, second.getP99Nanos());
+
+		Map<OverlayLayer, Long> layers = profiler.getLayerTimings();
+		assertEquals(100L, (long) layers.get(OverlayLayer.ABOVE_SCENE));
+		assertEquals(10L, (long) layers.get(OverlayLayer.ABOVE_WIDGETS));
+		assertEquals(0L, (long) layers.get(OverlayLayer.UNDER_WIDGETS));
+	}
+
+	@Test
+	public void testRollingWindow()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setEnabled(true);
+
+		TestOverlay overlay = new TestOverlay(OverlayLayer.UNDER_WIDGETS);
+		for (int i = 0; i < OverlayProfiler.WINDOW; ++i)
+		{
+			profiler.record(overlay, 1000);
+			profiler.nextFrame();
+		}
+		for (int i = 0; i < OverlayProfiler.WINDOW; ++i)
+		{
+			profiler.record(overlay, 1);
+			profiler.nextFrame();
+		}
+		// a frame the overlay was not drawn in
+		profiler.nextFrame();
+
+		OverlayProfiler.OverlayTiming timing = profiler.getTimings().get(0);
+		assertEquals(0, timing.getLastFrameNanos());
+		assertEquals(1, timing.getP99Nanos());
+		assertEquals(OverlayProfiler.WINDOW, timing.getFrames());
+
+		profiler.setEnabled(false);
+		assertTrue(profiler.getTimings().isEmpty());
+	}
+}
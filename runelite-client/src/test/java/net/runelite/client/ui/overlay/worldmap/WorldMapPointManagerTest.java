@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.worldmap;
+
+import java.awt.Rectangle;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorldMapPointManagerTest
+{
+	private final WorldMapPointManager manager = new WorldMapPointManager();
+
+	@Test
+	public void testVisiblePoints()
+	{
+		WorldMapPoint lumbridge = new WorldMapPoint(new WorldPoint(3222, 3218, 0), null);
+		WorldMapPoint varrock = new WorldMapPoint(new WorldPoint(3213, 3424, 0), null);
+		WorldMapPoint edge = new WorldMapPoint(new WorldPoint(2400, 3400, 0), null);
+		edge.setSnapToEdge(true);
+		WorldMapPoint draynor = new WorldMapPoint(new WorldPoint(3093, 3244, 0), null);
+
+		manager.add(lumbridge);
+		manager.add(varrock);
+		manager.add(edge);
+		manager.add(draynor);
+
+		Rectangle view = new Rectangle(3050, 3150, 200, 150);
+		assertEquals(List.of(lumbridge, edge, draynor), manager.getWorldMapPoints(view));
+		// points in a visited cell but outside of the area are excluded
+		assertEquals(List.of(edge), manager.getWorldMapPoints(new Rectangle(3230, 3200, 20, 20)));
+
+		varrock.setWorldPoint(new WorldPoint(3200, 3200, 0));
+		assertEquals(List.of(lumbridge, varrock, edge, draynor), manager.getWorldMapPoints(view));
+
+		edge.setSnapToEdge(false);
+		manager.remove(lumbridge);
+		assertEquals(List.of(varrock, draynor), manager.getWorldMapPoints(view));
+
+		manager.removeIf(p -> p.getWorldPoint().getX() < 3150);
+		assertEquals(List.of(varrock), manager.getWorldMapPoints(new Rectangle(0, 0, 10000, 10000)));
+
+		manager.remove(varrock);
+		assertTrue(manager.isEmpty());
+		assertEquals(List.of(), manager.getWorldMapPoints(view));
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, TheStonedTurtle <https://github.com/TheStonedTurtle>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Writes an index of the plugin classes in a package, so the client can load its plugins
+ * without scanning and loading every class on the classpath.
+ * <p>
+ * Each line of the index is a plugin class name, followed by a tab and a comma separated list
+ * of the plugins it depends on, and a tab and the config interface it provides, if any.
+ */
+@Mojo(
+	name = "plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+	requiresDependencyResolution = ResolutionScope.COMPILE
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN_CLASS = "net.runelite.client.plugins.Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	private static final String CONFIG_CLASS = "net.runelite.client.config.Config";
+	private static final String PROVIDES = "com.google.inject.Provides";
+
+	@Parameter(defaultValue = "${project}")
+	private MavenProject project;
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}")
+	private File classesDirectory;
+
+	@Parameter(required = true)
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		List<String> classNames = findTopLevelClasses();
+
+		List<String> lines = new ArrayList<>();
+		try (URLClassLoader classLoader = new URLClassLoader(classpath(), ClassLoader.getPlatformClassLoader()))
+		{
+			Class<?> pluginClass = classLoader.loadClass(PLUGIN_CLASS);
+			Class<? extends Annotation> descriptorClass = classLoader.loadClass(PLUGIN_DESCRIPTOR).asSubclass(Annotation.class);
+			Class<? extends Annotation> dependencyClass = classLoader.loadClass(PLUGIN_DEPENDENCY).asSubclass(Annotation.class);
+			Class<?> configClass = classLoader.loadClass(CONFIG_CLASS);
+			Class<? extends Annotation> providesClass = classLoader.loadClass(PROVIDES).asSubclass(Annotation.class);
+			Method dependencyValue = dependencyClass.getMethod("value");
+
+			for (String className : classNames)
+			{
+				Class<?> clazz = Class.forName(className, false, classLoader);
+
+				// include classes which are only half a plugin too, so the plugin manager can still report them
+				if (clazz.getSuperclass() != pluginClass && !clazz.isAnnotationPresent(descriptorClass))
+				{
+					continue;
+				}
+
+				List<String> dependencies = new ArrayList<>();
+				for (Annotation dependency : clazz.getAnnotationsByType(dependencyClass))
+				{
+					dependencies.add(((Class<?>) dependencyValue.invoke(dependency)).getName());
+				}
+
+				String config = "";
+				for (Method method : clazz.getDeclaredMethods())
+				{
+					if (method.isAnnotationPresent(providesClass) && configClass.isAssignableFrom(method.getReturnType()))
+					{
+						config = method.getReturnType().getName();
+						break;
+					}
+				}
+
+				lines.add(className + '\t' + String.join(",", dependencies) + '\t' + config);
+			}
+		}
+		catch (ReflectiveOperationException | LinkageError ex)
+		{
+			throw new MojoExecutionException("unable to inspect plugin classes", ex);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to close plugin class loader", ex);
+		}
+
+		getLog().info("Indexed " + lines.size() + " plugins");
+
+		indexFile.getParentFile().mkdirs();
+		try (PrintWriter out = new PrintWriter(indexFile, StandardCharsets.UTF_8))
+		{
+			for (String line : lines)
+			{
+				out.print(line);
+				out.print('\n');
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to write plugin index", ex);
+		}
+	}
+
+	private List<String> findTopLevelClasses() throws MojoExecutionException
+	{
+		Path root = classesDirectory.toPath();
+		Path packageDirectory = root.resolve(pluginPackage.replace('.', File.separatorChar));
+
+		try (Stream<Path> files = Files.walk(packageDirectory))
+		{
+			return files
+				.map(path -> root.relativize(path).toString())
+				.filter(name -> name.endsWith(".class") && name.indexOf('$') == -1)
+				.map(name -> name.substring(0, name.length() - ".class".length()).replace(File.separatorChar, '.'))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("unable to list classes in " + packageDirectory, ex);
+		}
+	}
+
+	private URL[] classpath() throws MojoExecutionException
+	{
+		try
+		{
+			List<String> elements = project.getCompileClasspathElements();
+			URL[] urls = new URL[elements.size()];
+			for (int i = 0; i < urls.length; ++i)
+			{
+				urls[i] = new File(elements.get(i)).toURI().toURL();
+			}
+			return urls;
+		}
+		catch (DependencyResolutionRequiredException | MalformedURLException ex)
+		{
+			throw new MojoExecutionException("unable to resolve the compile classpath", ex);
+		}
+	}
+}